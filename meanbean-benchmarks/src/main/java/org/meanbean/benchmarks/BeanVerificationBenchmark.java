@@ -0,0 +1,79 @@
+/*-
+ * ​​​
+ * meanbean
+ * ⁣⁣⁣
+ * Copyright (C) 2010 - 2020 the original author or authors.
+ * ⁣⁣⁣
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ﻿﻿﻿﻿﻿
+ */
+
+package org.meanbean.benchmarks;
+
+import org.meanbean.test.BeanTester;
+import org.meanbean.test.BeanVerifier;
+import org.meanbean.test.EqualsMethodTester;
+import org.meanbean.test.beans.domain.Company;
+import org.meanbean.test.beans.domain.EmployeeId;
+import org.meanbean.test.beans.domain.Rating;
+import org.meanbean.util.ServiceFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * End-to-end throughput of the public verification entry points over the domain beans of the meanbean test suite.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BeanVerificationBenchmark {
+
+	private BeanTester beanTester;
+
+	private EqualsMethodTester equalsMethodTester;
+
+	@Setup
+	public void setUp() {
+		ServiceFactory.createContext(this);
+		beanTester = new BeanTester();
+		equalsMethodTester = new EqualsMethodTester();
+	}
+
+	@Benchmark
+	public void verifyBean() {
+		BeanVerifier.verifyBean(EmployeeId.class);
+	}
+
+	@Benchmark
+	public void testBeanGettersAndSetters() {
+		beanTester.testBean(Company.class);
+	}
+
+	@Benchmark
+	public void testEqualsMethod() {
+		equalsMethodTester.testEqualsMethod(Rating.class);
+	}
+}
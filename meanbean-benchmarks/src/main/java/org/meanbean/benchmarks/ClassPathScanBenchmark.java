@@ -0,0 +1,65 @@
+/*-
+ * ​​​
+ * meanbean
+ * ⁣⁣⁣
+ * Copyright (C) 2010 - 2020 the original author or authors.
+ * ⁣⁣⁣
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ﻿﻿﻿﻿﻿
+ */
+
+package org.meanbean.benchmarks;
+
+import org.meanbean.util.ClassPath;
+import org.meanbean.util.ClassPath.ClassInfo;
+import org.meanbean.util.ClassPathUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of finding the classes of a package on the classpath, as done by BeanVerifier.verifyBeansIn. ClassPathUtils
+ * caches the classes found per package, so the scan itself is measured through ClassPath.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class ClassPathScanBenchmark {
+
+	private static final String PACKAGE_NAME = "org.meanbean.test.beans.domain";
+
+	private final ClassLoader classLoader = ClassPathScanBenchmark.class.getClassLoader();
+
+	@Benchmark
+	public Set<ClassInfo> scanPackage() throws IOException {
+		return ClassPath.from(classLoader, PACKAGE_NAME).getTopLevelClassesRecursive(PACKAGE_NAME);
+	}
+
+	@Benchmark
+	public Class<?>[] findClassesInPackageCached() {
+		return ClassPathUtils.findClassesIn(PACKAGE_NAME);
+	}
+}
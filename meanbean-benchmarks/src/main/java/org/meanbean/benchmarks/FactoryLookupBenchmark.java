@@ -0,0 +1,88 @@
+/*-
+ * ​​​
+ * meanbean
+ * ⁣⁣⁣
+ * Copyright (C) 2010 - 2020 the original author or authors.
+ * ⁣⁣⁣
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ﻿﻿﻿﻿﻿
+ */
+
+package org.meanbean.benchmarks;
+
+import org.meanbean.factories.FactoryCollection;
+import org.meanbean.util.ServiceFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.reflect.Type;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of resolving a Factory for a type, for a registered type, a type served by a FactoryLookup and a type that
+ * no factory can serve.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FactoryLookupBenchmark {
+
+	/** Declares the parameterized type looked up by {@link #getFactoryForParameterizedType()}. */
+	public List<String> listOfStrings;
+
+	/** No factory exists for an interface that is neither a collection nor a registered type. */
+	public interface Unknown {
+	}
+
+	private Type listOfStringsType;
+
+	private FactoryCollection factoryCollection;
+
+	@Setup
+	public void setUp() {
+		ServiceFactory.createContext(this);
+		factoryCollection = FactoryCollection.getInstance();
+		try {
+			listOfStringsType = getClass().getField("listOfStrings").getGenericType();
+		} catch (NoSuchFieldException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	@Benchmark
+	public Object getFactoryForRegisteredType() {
+		return factoryCollection.getFactory(String.class);
+	}
+
+	@Benchmark
+	public Object getFactoryForParameterizedType() {
+		return factoryCollection.getFactory(listOfStringsType);
+	}
+
+	@Benchmark
+	public boolean hasFactoryForUnknownType() {
+		return factoryCollection.hasFactory(Unknown.class);
+	}
+}
@@ -0,0 +1,70 @@
+/*-
+ * ​​​
+ * meanbean
+ * ⁣⁣⁣
+ * Copyright (C) 2010 - 2020 the original author or authors.
+ * ⁣⁣⁣
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ﻿﻿﻿﻿﻿
+ */
+
+package org.meanbean.benchmarks;
+
+import org.meanbean.test.internal.SideEffectDetector;
+import org.meanbean.test.internal.SideEffectDetectorFactory;
+import org.meanbean.util.ServiceFactory;
+import org.meanbean.util.ServiceLoader;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of obtaining a SideEffectDetector once per bean test iteration: scanning the service descriptors each time,
+ * compared with creating it from the SideEffectDetectorFactory service.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ServiceLookupBenchmark {
+
+	private SideEffectDetectorFactory sideEffectDetectorFactory;
+
+	@Setup
+	public void setUp() {
+		ServiceFactory.createContext(this);
+		sideEffectDetectorFactory = SideEffectDetectorFactory.getInstance();
+	}
+
+	@Benchmark
+	public List<SideEffectDetectorFactory> loadWithServiceLoader() {
+		return new ServiceLoader<SideEffectDetectorFactory>(SideEffectDetectorFactory.class).createAll();
+	}
+
+	@Benchmark
+	public SideEffectDetector createFromFactory() {
+		return sideEffectDetectorFactory.create();
+	}
+}
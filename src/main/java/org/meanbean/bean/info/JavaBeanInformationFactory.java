@@ -21,16 +21,28 @@
 package org.meanbean.bean.info;
 
 import org.kohsuke.MetaInfServices;
+import org.meanbean.util.ValidationHelper;
 
 /**
  * Concrete BeanInformationFactory that creates concrete JavaBeanInformation objects from/based on a specified
- * beanClass.
+ * beanClass. <br>
+ * 
+ * JavaBeanInformation objects are immutable once created, so they are cached per beanClass. The cache is held in a
+ * ClassValue, so entries never outlive the class they describe.
  * 
  * @author Graham Williamson
  */
 @MetaInfServices
 public class JavaBeanInformationFactory implements BeanInformationFactory {
 
+	/** Introspection results shared by all factories, keyed by bean class. */
+	private static final ClassValue<BeanInformation> beanInformationCache = new ClassValue<BeanInformation>() {
+		@Override
+		protected BeanInformation computeValue(Class<?> beanClass) {
+			return new JavaBeanInformation(beanClass);
+		}
+	};
+
 	/**
 	 * Create a BeanInformation object from/based on the specified beanClass.
 	 * 
@@ -48,6 +60,7 @@ public class JavaBeanInformationFactory implements BeanInformationFactory {
 	 */
 	@Override
     public BeanInformation create(Class<?> beanClass) throws IllegalArgumentException, BeanInformationException {
-		return new JavaBeanInformation(beanClass);
+		ValidationHelper.ensureExists("beanClass", "gather JavaBean information", beanClass);
+		return beanInformationCache.get(beanClass);
 	}
 }
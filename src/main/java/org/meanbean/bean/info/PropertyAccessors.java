@@ -0,0 +1,90 @@
+/*-
+ * ​​​
+ * meanbean
+ * ⁣⁣⁣
+ * Copyright (C) 2010 - 2020 the original author or authors.
+ * ⁣⁣⁣
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ﻿﻿﻿﻿﻿
+ */
+
+package org.meanbean.bean.info;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+
+/**
+ * Creates PropertyGetter and PropertySetter objects for property methods. <br>
+ * 
+ * Accessors are backed by MethodHandles adapted to a generic (Object) signature, which avoids the argument array and
+ * access checks of Method.invoke on every call. If a MethodHandle cannot be obtained, for example because the module
+ * system denies access, accessors fall back to Method.invoke.
+ */
+final class PropertyAccessors {
+
+	private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+	private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+	private PropertyAccessors() {
+	}
+
+	static PropertyGetter getter(Method readMethod) {
+		MethodHandle handle = unreflect(readMethod, GETTER_TYPE);
+		if (handle == null) {
+			return reflectiveGetter(readMethod);
+		}
+		return bean -> {
+			try {
+				return (Object) handle.invokeExact(bean);
+			} catch (Throwable e) {
+				throw new InvocationTargetException(e);
+			}
+		};
+	}
+
+	static PropertySetter setter(Method writeMethod) {
+		MethodHandle handle = unreflect(writeMethod, SETTER_TYPE);
+		if (handle == null) {
+			return reflectiveSetter(writeMethod);
+		}
+		return (bean, value) -> {
+			try {
+				handle.invokeExact(bean, value);
+			} catch (Throwable e) {
+				throw new InvocationTargetException(e);
+			}
+		};
+	}
+
+	static PropertyGetter reflectiveGetter(Method readMethod) {
+		return bean -> readMethod.invoke(bean);
+	}
+
+	static PropertySetter reflectiveSetter(Method writeMethod) {
+		return (bean, value) -> writeMethod.invoke(bean, value);
+	}
+
+	private static MethodHandle unreflect(Method method, MethodType type) {
+		try {
+			return MethodHandles.lookup()
+					.unreflect(method)
+					.asType(type);
+		} catch (IllegalAccessException | RuntimeException e) {
+			return null;
+		}
+	}
+}
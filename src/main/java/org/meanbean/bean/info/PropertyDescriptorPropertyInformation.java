@@ -40,6 +40,12 @@ class PropertyDescriptorPropertyInformation implements PropertyInformation {
 	
 	private Method writeMethodOverride;
 
+	/** Lazily created accessor for the read method. */
+	private volatile PropertyGetter getter;
+
+	/** Lazily created accessor for the write method. */
+	private volatile PropertySetter setter;
+
 	/**
 	 * Construct a new Property Descriptor Property Information based on the specified Property Descriptor.
 	 * 
@@ -129,6 +135,41 @@ class PropertyDescriptorPropertyInformation implements PropertyInformation {
 
 	public void setWriteMethodOverride(Method writeMethodOverride) {
 		this.writeMethodOverride = writeMethodOverride;
+		this.setter = null;
+	}
+
+	/**
+	 * Get an accessor that reads the property value through its read method (getter method). The accessor is created
+	 * once and reused.
+	 * 
+	 * @return An accessor for the read method of the property. If the property is not publicly readable,
+	 *         <code>null</code> is returned.
+	 */
+	@Override
+	public PropertyGetter getter() {
+		PropertyGetter result = getter;
+		if (result == null && isReadable()) {
+			result = PropertyAccessors.getter(getReadMethod());
+			getter = result;
+		}
+		return result;
+	}
+
+	/**
+	 * Get an accessor that writes the property value through its write method (setter method). The accessor is
+	 * created once and reused.
+	 * 
+	 * @return An accessor for the write method of the property. If the property is not publicly writable,
+	 *         <code>null</code> is returned.
+	 */
+	@Override
+	public PropertySetter setter() {
+		PropertySetter result = setter;
+		if (result == null && isWritable()) {
+			result = PropertyAccessors.setter(getWriteMethod());
+			setter = result;
+		}
+		return result;
 	}
 
 	/**
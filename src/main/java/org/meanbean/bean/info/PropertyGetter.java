@@ -0,0 +1,44 @@
+/*-
+ * ​​​
+ * meanbean
+ * ⁣⁣⁣
+ * Copyright (C) 2010 - 2020 the original author or authors.
+ * ⁣⁣⁣
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ﻿﻿﻿﻿﻿
+ */
+
+package org.meanbean.bean.info;
+
+/**
+ * Reads the value of a single bean property, typically by invoking the property's getter method.
+ * 
+ * @see PropertyInformation#getter()
+ */
+@FunctionalInterface
+public interface PropertyGetter {
+
+	/**
+	 * Get the value of the property from the specified bean.
+	 * 
+	 * @param bean
+	 *            The object to read the property value from.
+	 * 
+	 * @return The value returned by the property's getter method.
+	 * 
+	 * @throws ReflectiveOperationException
+	 *             If the getter method cannot be invoked. Exceptions thrown by the getter method itself are wrapped in
+	 *             an InvocationTargetException.
+	 */
+	Object get(Object bean) throws ReflectiveOperationException;
+}
@@ -99,4 +99,26 @@ public interface PropertyInformation {
 	 *             If the write method takes more than one parameter, or zero parameters.
 	 */
 	Type getWriteMethodParameterType() throws IllegalArgumentException;
+
+	/**
+	 * Get an accessor that reads the property value through its read method (getter method).
+	 * 
+	 * @return An accessor for the read method of the property. If the property is not publicly readable,
+	 *         <code>null</code> is returned.
+	 */
+	default PropertyGetter getter() {
+		Method readMethod = getReadMethod();
+		return readMethod == null ? null : PropertyAccessors.reflectiveGetter(readMethod);
+	}
+
+	/**
+	 * Get an accessor that writes the property value through its write method (setter method).
+	 * 
+	 * @return An accessor for the write method of the property. If the property is not publicly writable,
+	 *         <code>null</code> is returned.
+	 */
+	default PropertySetter setter() {
+		Method writeMethod = getWriteMethod();
+		return writeMethod == null ? null : PropertyAccessors.reflectiveSetter(writeMethod);
+	}
 }
@@ -0,0 +1,44 @@
+/*-
+ * ​​​
+ * meanbean
+ * ⁣⁣⁣
+ * Copyright (C) 2010 - 2020 the original author or authors.
+ * ⁣⁣⁣
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ﻿﻿﻿﻿﻿
+ */
+
+package org.meanbean.bean.info;
+
+/**
+ * Writes the value of a single bean property, typically by invoking the property's setter method.
+ * 
+ * @see PropertyInformation#setter()
+ */
+@FunctionalInterface
+public interface PropertySetter {
+
+	/**
+	 * Set the value of the property on the specified bean.
+	 * 
+	 * @param bean
+	 *            The object to write the property value to.
+	 * @param value
+	 *            The value to pass to the property's setter method.
+	 * 
+	 * @throws ReflectiveOperationException
+	 *             If the setter method cannot be invoked. Exceptions thrown by the setter method itself are wrapped in
+	 *             an InvocationTargetException.
+	 */
+	void set(Object bean, Object value) throws ReflectiveOperationException;
+}
@@ -24,7 +24,6 @@ import org.kohsuke.MetaInfServices;
 import org.meanbean.lang.Factory;
 import org.meanbean.util.Order;
 import org.meanbean.util.RandomValueGenerator;
-import org.meanbean.util.Types;
 
 import java.lang.reflect.Array;
 import java.lang.reflect.Type;
@@ -54,7 +53,7 @@ public class ArrayFactoryLookup implements FactoryLookup {
 	@SuppressWarnings("unchecked")
 	@Override
 	public <T> Factory<T> getFactory(Type typeToken) throws IllegalArgumentException, NoSuchFactoryException {
-		return () -> (T) randomArray(typeToken);
+		return (Factory<T>) new RandomArrayFactory(getRawType(typeToken).getComponentType());
 	}
 
 	@Override
@@ -62,19 +61,32 @@ public class ArrayFactoryLookup implements FactoryLookup {
 		return getRawType(type).isArray();
 	}
 
-	private Object randomArray(Type typeToken) {
-		Class<?> clazz = Types.getRawType(typeToken);
-		int length = randomValueGenerator.nextInt(maxSize);
-		Factory<?> componentFactory = getComponentFactory(clazz);
-		Object array = Array.newInstance(clazz.getComponentType(), length);
-		for (int i = 0; i < length; i++) {
-			Array.set(array, i, componentFactory.create());
+	/**
+	 * Creates random arrays of one component type. The Factory of the component type is looked up on the first
+	 * creation and reused afterwards, and fills each array through {@link Factory#createInto(Object, int)}, so that
+	 * primitive arrays are filled without boxing.
+	 */
+	private class RandomArrayFactory implements Factory<Object> {
+
+		private final Class<?> componentType;
+
+		private volatile Factory<?> componentFactory;
+
+		private RandomArrayFactory(Class<?> componentType) {
+			this.componentType = componentType;
 		}
-		return  array;
-	}
 
-	private Factory<?> getComponentFactory(Class<?> clazz) {
-		FactoryCollection instance = FactoryCollection.getInstance();
-		return instance.getFactory(clazz.getComponentType());
+		@Override
+		public Object create() {
+			Factory<?> factory = componentFactory;
+			if (factory == null) {
+				factory = FactoryCollection.getInstance().getFactory(componentType);
+				componentFactory = factory;
+			}
+			int length = randomValueGenerator.nextInt(maxSize);
+			Object array = Array.newInstance(componentType, length);
+			factory.createInto(array, length);
+			return array;
+		}
 	}
 }
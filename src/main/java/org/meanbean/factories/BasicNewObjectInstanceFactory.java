@@ -24,18 +24,33 @@ import org.meanbean.lang.Factory;
 import org.meanbean.util.ValidationHelper;
 import org.meanbean.util.reflect.ReflectionAccessor;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Modifier;
 
 /**
  * Concrete Factory that creates instances of the type of object specified during construction of the Factory. Only
  * classes that have a no-argument constructor can be successfully instantiated by this Factory. If the class does not
- * have a no-argument constructor, an exception will be thrown when <code>create()</code> is invoked.
+ * have a no-argument constructor, an exception will be thrown when <code>create()</code> is invoked.<br>
+ * 
+ * The no-argument constructor of each type is resolved and made accessible once, and shared by all factories of that
+ * type. A type that cannot be instantiated is diagnosed once as well.
  * 
  * @author Graham Williamson
  */
 public class BasicNewObjectInstanceFactory implements Factory<Object> {
 
+	/** Instantiators shared by all factories, keyed by the type they instantiate. */
+	private static final ClassValue<Instantiator> instantiators = new ClassValue<Instantiator>() {
+		@Override
+		protected Instantiator computeValue(Class<?> clazz) {
+			return Instantiator.resolve(clazz);
+		}
+	};
+
 	/** The type of Object this Factory should create new instances of. */
 	private final Class<?> clazz;
 
@@ -72,43 +87,77 @@ public class BasicNewObjectInstanceFactory implements Factory<Object> {
 	 */
 	@Override
     public Object create() throws ObjectCreationException {
-		Object result = null;
-		try {
-			Constructor<?> declaredConstructor = clazz.getDeclaredConstructor();
-			ReflectionAccessor.getInstance().makeAccessible(declaredConstructor);
-			result = declaredConstructor.newInstance();
-		} catch (InstantiationException e) {
-			wrapAndRethrowException(e);
-		} catch (IllegalAccessException e) {
-			wrapAndRethrowException(e);
-		} catch (SecurityException e) {
-			wrapAndRethrowException(e);
-		} catch (NoSuchMethodException e) {
-			wrapAndRethrowException(e);
-		} catch (IllegalArgumentException e) {
-			wrapAndRethrowException(e);
-		} catch (InvocationTargetException e) {
-			wrapAndRethrowException(e);
+		return instantiators.get(clazz).newInstance();
+	}
+
+	/**
+	 * Creates instances of one type through its no-arg constructor, or fails with the diagnostic found when the
+	 * constructor was resolved.
+	 */
+	private static final class Instantiator {
+
+		private final Class<?> clazz;
+
+		/** The no-arg constructor as ()Object, or null if the type cannot be instantiated. */
+		private final MethodHandle constructorHandle;
+
+		private final String failureMessage;
+
+		private final Exception failureCause;
+
+		private Instantiator(Class<?> clazz, MethodHandle constructorHandle, Exception failureCause) {
+			this.clazz = clazz;
+			this.constructorHandle = constructorHandle;
+			this.failureCause = failureCause;
+			this.failureMessage = failureCause == null ? null : failureMessage(clazz, failureCause);
+		}
+
+		static Instantiator resolve(Class<?> clazz) {
+			try {
+				Constructor<?> declaredConstructor = clazz.getDeclaredConstructor();
+				if (Modifier.isAbstract(clazz.getModifiers())) {
+					throw new InstantiationException(clazz.getName());
+				}
+				ReflectionAccessor.getInstance().makeAccessible(declaredConstructor);
+				MethodHandle constructorHandle = MethodHandles.lookup()
+						.unreflectConstructor(declaredConstructor)
+						.asType(MethodType.methodType(Object.class));
+				return new Instantiator(clazz, constructorHandle, null);
+			} catch (InstantiationException | IllegalAccessException | SecurityException | NoSuchMethodException e) {
+				return new Instantiator(clazz, null, e);
+			}
+		}
+
+		Object newInstance() throws ObjectCreationException {
+			if (constructorHandle == null) {
+				throw new ObjectCreationException(failureMessage, failureCause);
+			}
+			try {
+				return (Object) constructorHandle.invokeExact();
+			} catch (Throwable e) {
+				InvocationTargetException exception = new InvocationTargetException(e);
+				throw new ObjectCreationException(failureMessage(clazz, exception), exception);
+			}
 		}
-		return result;
 	}
 
 	/**
-	 * Wraps the specified Exception within an ObjectCreationException and throws it.
+	 * Describes the failure to instantiate the specified type due to the specified Exception.
 	 * 
+	 * @param clazz
+	 *            The type that could not be instantiated.
 	 * @param exception
-	 *            The Exception to wrap and (re)throw.
+	 *            The Exception that prevented instantiation.
 	 * 
-	 * @throws ObjectCreationException
-	 *             The ObjectCreationException wrapping the specified Exception.
+	 * @return A message for the ObjectCreationException wrapping the specified Exception.
 	 */
-	private void wrapAndRethrowException(Exception exception) throws ObjectCreationException {
+	private static String failureMessage(Class<?> clazz, Exception exception) {
 		String message =
 		        "Failed to instantiate object of type [" + clazz.getName() + "] due to "
 		                + exception.getClass().getSimpleName() + ".";
 		if (exception instanceof NoSuchMethodException) {
 			message = message + " Do you need to add a custom Factory?";
 		}
-		throw new ObjectCreationException(message, exception);
+		return message;
 	}
 }
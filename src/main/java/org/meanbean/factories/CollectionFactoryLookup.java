@@ -120,10 +120,7 @@ public class CollectionFactoryLookup implements FactoryLookup {
 			Factory<Object> populatingFactory = () -> {
 				Collection collection = (Collection) instanceFactory.create();
 
-				int size = randomValueGenerator.nextInt(maxSize);
-				for (int idx = 0; idx < size; idx++) {
-					collection.add(itemFactory.create());
-				}
+				itemFactory.createInto(collection, randomValueGenerator.nextInt(maxSize));
 				return collection;
 			};
 
@@ -25,41 +25,48 @@ import org.meanbean.lang.Factory;
 import org.meanbean.util.Order;
 import org.meanbean.util.ServiceDefinition;
 import org.meanbean.util.ServiceFactory;
+import org.meanbean.util.ValidationHelper;
 
 import java.lang.reflect.Type;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.stream.Stream;
 
 /**
- * Mutable FactoryCollection that delegates to other FactoryCollection implementations
+ * Mutable FactoryCollection that delegates to other FactoryCollection implementations. <br>
+ * 
+ * The FactoryLookup chosen for each Type is remembered, so that repeated lookups of the same Type do not scan every
+ * FactoryLookup again. Remembered choices are discarded whenever a Factory or FactoryLookup is added.
  */
 @MetaInfServices
 @Order(1000)
 public class FactoryCollectionRepository implements FactoryCollection {
 
 	private final List<FactoryLookup> factoryLookups = new CopyOnWriteArrayList<>();
-	
+
+	/** Resolved factories keyed by type. Replaced rather than cleared, so that in-flight resolutions are discarded. */
+	private volatile Map<Type, Resolution> resolutions = new ConcurrentHashMap<>();
+
 	@Override
 	public void addFactory(Class<?> clazz, Factory<?> factory) throws IllegalArgumentException {
 		factoryCollections().forEach(factoryCollection -> factoryCollection.addFactory(clazz, factory));
+		invalidateResolutions();
 	}
 
 	@Override
 	public void addFactoryLookup(FactoryLookup factoryLookup) {
 		factoryLookups.add(0, factoryLookup);
+		invalidateResolutions();
 	}
 
 	@Override
 	public <T> Factory<T> getFactory(Type type) throws IllegalArgumentException, NoSuchFactoryException {
-		Optional<Factory<T>> resultOptional = factoryLookups()
-				.filter(factoryCollection -> factoryCollection.hasFactory(type))
-				.findFirst()
-				.map(factoryCollection -> factoryCollection.getFactory(type));
-
-		if (resultOptional.isPresent()) {
-			return resultOptional.get();
+		ValidationHelper.ensureExists("type", "get Factory", type);
+		Resolution resolution = resolve(type);
+		if (resolution.factoryLookup != null) {
+			return resolution.getFactory(type);
 		}
 
 		throw new NoSuchFactoryException("No factory found for " + type);
@@ -67,7 +74,30 @@ public class FactoryCollectionRepository implements FactoryCollection {
 
 	@Override
 	public boolean hasFactory(Type type) throws IllegalArgumentException {
-		return factoryLookups().anyMatch(factoryCollection -> factoryCollection.hasFactory(type));
+		ValidationHelper.ensureExists("type", "check collection for Factory", type);
+		return resolve(type).factoryLookup != null;
+	}
+
+	private Resolution resolve(Type type) {
+		Map<Type, Resolution> cache = resolutions;
+		Resolution resolution = cache.get(type);
+		if (resolution == null) {
+			// not computeIfAbsent: FactoryLookups may resolve other types through this repository
+			FactoryLookup factoryLookup = factoryLookups()
+					.filter(factoryCollection -> factoryCollection.hasFactory(type))
+					.findFirst()
+					.orElse(null);
+			resolution = new Resolution(factoryLookup);
+			Resolution existing = cache.putIfAbsent(type, resolution);
+			if (existing != null) {
+				resolution = existing;
+			}
+		}
+		return resolution;
+	}
+
+	private void invalidateResolutions() {
+		resolutions = new ConcurrentHashMap<>();
 	}
 
 	Stream<FactoryLookup> factoryLookups() {
@@ -88,4 +118,27 @@ public class FactoryCollectionRepository implements FactoryCollection {
 				.filter(factoryCollection -> factoryCollection != this);
 	}
 
+	/**
+	 * The FactoryLookup chosen for a type, and the Factory it supplied once requested.
+	 */
+	private static final class Resolution {
+
+		private final FactoryLookup factoryLookup;
+
+		private volatile Factory<?> factory;
+
+		private Resolution(FactoryLookup factoryLookup) {
+			this.factoryLookup = factoryLookup;
+		}
+
+		@SuppressWarnings("unchecked")
+		private <T> Factory<T> getFactory(Type type) {
+			Factory<?> result = factory;
+			if (result == null) {
+				result = factoryLookup.getFactory(type);
+				factory = result;
+			}
+			return (Factory<T>) result;
+		}
+	}
 }
@@ -21,6 +21,7 @@
 package org.meanbean.factories.basic;
 
 import org.meanbean.util.RandomValueGenerator;
+import org.meanbean.util.ValidationHelper;
 
 /**
  * Concrete Factory that creates random Boolean objects.
@@ -51,4 +52,22 @@ public final class BooleanFactory extends RandomFactoryBase<Boolean> {
 	public Boolean create() {
 		return getRandomValueGenerator().nextBoolean();
 	}
+
+	/**
+	 * Create new boolean values into the first length elements of the specified array, without boxing them when it is
+	 * a boolean array.
+	 */
+	@Override
+	public void createInto(Object array, int length) throws IllegalArgumentException {
+		if (array instanceof boolean[]) {
+			boolean[] values = (boolean[]) array;
+			ValidationHelper.ensureLength(values.length, length);
+			RandomValueGenerator randomValueGenerator = getRandomValueGenerator();
+			for (int idx = 0; idx < length; idx++) {
+				values[idx] = randomValueGenerator.nextBoolean();
+			}
+		} else {
+			super.createInto(array, length);
+		}
+	}
 }
@@ -21,6 +21,7 @@
 package org.meanbean.factories.basic;
 
 import org.meanbean.util.RandomValueGenerator;
+import org.meanbean.util.ValidationHelper;
 
 /**
  * Concrete Factory that creates random Byte objects.
@@ -51,4 +52,19 @@ public final class ByteFactory extends RandomFactoryBase<Byte> {
 	public Byte create() {
 		return getRandomValueGenerator().nextByte();
 	}
+
+	/**
+	 * Create new byte values into the first length elements of the specified array, generating them all at once when
+	 * it is a byte array.
+	 */
+	@Override
+	public void createInto(Object array, int length) throws IllegalArgumentException {
+		if (array instanceof byte[]) {
+			byte[] values = (byte[]) array;
+			ValidationHelper.ensureLength(values.length, length);
+			System.arraycopy(getRandomValueGenerator().nextBytes(length), 0, values, 0, length);
+		} else {
+			super.createInto(array, length);
+		}
+	}
 }
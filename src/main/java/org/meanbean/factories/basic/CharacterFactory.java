@@ -21,6 +21,7 @@
 package org.meanbean.factories.basic;
 
 import org.meanbean.util.RandomValueGenerator;
+import org.meanbean.util.ValidationHelper;
 
 /**
  * Concrete Factory that creates random Character objects.
@@ -49,6 +50,27 @@ public final class CharacterFactory extends RandomFactoryBase<Character> {
 	 */
 	@Override
 	public Character create() {
+		return nextCharacter();
+	}
+
+	/**
+	 * Create new char values into the first length elements of the specified array, without boxing them when it is
+	 * a char array.
+	 */
+	@Override
+	public void createInto(Object array, int length) throws IllegalArgumentException {
+		if (array instanceof char[]) {
+			char[] values = (char[]) array;
+			ValidationHelper.ensureLength(values.length, length);
+			for (int idx = 0; idx < length; idx++) {
+				values[idx] = nextCharacter();
+			}
+		} else {
+			super.createInto(array, length);
+		}
+	}
+
+	private char nextCharacter() {
 		// Basis of our random number. This value is always positive.
 		double randomNumber = getRandomValueGenerator().nextDouble();
 		char result = (char) (Character.MAX_VALUE * randomNumber);
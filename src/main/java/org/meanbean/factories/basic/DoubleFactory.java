@@ -21,6 +21,7 @@
 package org.meanbean.factories.basic;
 
 import org.meanbean.util.RandomValueGenerator;
+import org.meanbean.util.ValidationHelper;
 
 /**
  * Concrete Factory that creates random Double objects.
@@ -49,6 +50,27 @@ public final class DoubleFactory extends RandomFactoryBase<Double> {
 	 */
 	@Override
 	public Double create() {
+		return nextDouble();
+	}
+
+	/**
+	 * Create new double values into the first length elements of the specified array, without boxing them when it is
+	 * a double array.
+	 */
+	@Override
+	public void createInto(Object array, int length) throws IllegalArgumentException {
+		if (array instanceof double[]) {
+			double[] values = (double[]) array;
+			ValidationHelper.ensureLength(values.length, length);
+			for (int idx = 0; idx < length; idx++) {
+				values[idx] = nextDouble();
+			}
+		} else {
+			super.createInto(array, length);
+		}
+	}
+
+	private double nextDouble() {
 		// Basis of our random number. This value is always positive, so we need to decide the sign
 		double result = getRandomValueGenerator().nextDouble();
 		// Our double is either based on MAX_VALUE, else MIN_VALUE
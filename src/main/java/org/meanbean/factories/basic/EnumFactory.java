@@ -62,8 +62,8 @@ public class EnumFactory extends RandomFactoryBase<Enum<?>> {
 	public Enum<?> create() {
 		// Basis to randomly select enum constant from
 		double random = getRandomValueGenerator().nextDouble();
-		// Get ordinal from random number
-		int ordinal = ((int) ((enumConstants.length - 1) * random));
+		// Get ordinal from random number, so that each constant is selected from an equal share of [0, 1]
+		int ordinal = Math.max(0, (int) Math.ceil(enumConstants.length * random) - 1);
 		// Get enum constant from ordinal
 		return enumConstants[ordinal];
 	}
@@ -21,6 +21,7 @@
 package org.meanbean.factories.basic;
 
 import org.meanbean.util.RandomValueGenerator;
+import org.meanbean.util.ValidationHelper;
 
 /**
  * Concrete Factory that creates random Float objects.
@@ -49,6 +50,27 @@ public final class FloatFactory extends RandomFactoryBase<Float> {
 	 */
 	@Override
 	public Float create() {
+		return nextFloat();
+	}
+
+	/**
+	 * Create new float values into the first length elements of the specified array, without boxing them when it is
+	 * a float array.
+	 */
+	@Override
+	public void createInto(Object array, int length) throws IllegalArgumentException {
+		if (array instanceof float[]) {
+			float[] values = (float[]) array;
+			ValidationHelper.ensureLength(values.length, length);
+			for (int idx = 0; idx < length; idx++) {
+				values[idx] = nextFloat();
+			}
+		} else {
+			super.createInto(array, length);
+		}
+	}
+
+	private float nextFloat() {
 		// Basis of our random number. This value is always positive, so we need to decide the sign
 		float result = getRandomValueGenerator().nextFloat();
 		// Our float is either based on MAX_VALUE, else MIN_VALUE
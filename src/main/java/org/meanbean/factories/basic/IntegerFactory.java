@@ -21,6 +21,7 @@
 package org.meanbean.factories.basic;
 
 import org.meanbean.util.RandomValueGenerator;
+import org.meanbean.util.ValidationHelper;
 
 /**
  * Concrete Factory that creates random Integer objects.
@@ -51,4 +52,22 @@ public final class IntegerFactory extends RandomFactoryBase<Integer> {
 	public Integer create() {
 		return getRandomValueGenerator().nextInt();
 	}
+
+	/**
+	 * Create new int values into the first length elements of the specified array, without boxing them when it is
+	 * an int array.
+	 */
+	@Override
+	public void createInto(Object array, int length) throws IllegalArgumentException {
+		if (array instanceof int[]) {
+			int[] values = (int[]) array;
+			ValidationHelper.ensureLength(values.length, length);
+			RandomValueGenerator randomValueGenerator = getRandomValueGenerator();
+			for (int idx = 0; idx < length; idx++) {
+				values[idx] = randomValueGenerator.nextInt();
+			}
+		} else {
+			super.createInto(array, length);
+		}
+	}
 }
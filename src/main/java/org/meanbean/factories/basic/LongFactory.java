@@ -21,6 +21,7 @@
 package org.meanbean.factories.basic;
 
 import org.meanbean.util.RandomValueGenerator;
+import org.meanbean.util.ValidationHelper;
 
 /**
  * Concrete Factory that creates random Long objects.
@@ -51,4 +52,22 @@ public final class LongFactory extends RandomFactoryBase<Long> {
 	public Long create() {
 		return getRandomValueGenerator().nextLong();
 	}
+
+	/**
+	 * Create new long values into the first length elements of the specified array, without boxing them when it is
+	 * a long array.
+	 */
+	@Override
+	public void createInto(Object array, int length) throws IllegalArgumentException {
+		if (array instanceof long[]) {
+			long[] values = (long[]) array;
+			ValidationHelper.ensureLength(values.length, length);
+			RandomValueGenerator randomValueGenerator = getRandomValueGenerator();
+			for (int idx = 0; idx < length; idx++) {
+				values[idx] = randomValueGenerator.nextLong();
+			}
+		} else {
+			super.createInto(array, length);
+		}
+	}
 }
@@ -21,6 +21,7 @@
 package org.meanbean.factories.basic;
 
 import org.meanbean.util.RandomValueGenerator;
+import org.meanbean.util.ValidationHelper;
 
 /**
  * Concrete Factory that creates random Short objects.
@@ -49,6 +50,27 @@ public final class ShortFactory extends RandomFactoryBase<Short> {
 	 */
 	@Override
 	public Short create() {
+		return nextShort();
+	}
+
+	/**
+	 * Create new short values into the first length elements of the specified array, without boxing them when it is
+	 * a short array.
+	 */
+	@Override
+	public void createInto(Object array, int length) throws IllegalArgumentException {
+		if (array instanceof short[]) {
+			short[] values = (short[]) array;
+			ValidationHelper.ensureLength(values.length, length);
+			for (int idx = 0; idx < length; idx++) {
+				values[idx] = nextShort();
+			}
+		} else {
+			super.createInto(array, length);
+		}
+	}
+
+	private short nextShort() {
 		short result = 0;
 		// Basis of our random number. This value is always positive, so we need to decide the sign
 		double randomNumber = getRandomValueGenerator().nextDouble();
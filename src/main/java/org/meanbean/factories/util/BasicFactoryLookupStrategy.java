@@ -260,8 +260,10 @@ public class BasicFactoryLookupStrategy implements FactoryLookupStrategy {
 		
 		if (dynamicallyCreatedFactories.size() > 1000) {
 			synchronized (dynamicallyCreatedFactories) {
-				// trim the cache size
-				dynamicallyCreatedFactories.removeIf(value -> dynamicallyCreatedFactories.size() > 50);
+				// trim the cache size, re-checking since other threads may have trimmed it already
+				if (dynamicallyCreatedFactories.size() > 1000) {
+					dynamicallyCreatedFactories.removeIf(value -> dynamicallyCreatedFactories.size() > 50);
+				}
 			}
 		}
 		String key = beanInformation.getBeanClass().getName() + "." + propertyType.getName();
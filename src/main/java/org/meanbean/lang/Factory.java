@@ -20,6 +20,11 @@
 
 package org.meanbean.lang;
 
+import org.meanbean.util.ValidationHelper;
+
+import java.lang.reflect.Array;
+import java.util.Collection;
+
 /**
  * Defines an object that creates objects of a specified type.
  * 
@@ -35,4 +40,56 @@ public interface Factory<T extends Object> {
 	 * @return A new object of the specified type.
 	 */
 	T create();
+
+	/**
+	 * <p>
+	 * Create new objects of the specified type into the first length elements of the specified array. <br>
+	 * </p>
+	 * 
+	 * <p>
+	 * The array is either an array of objects, or an array of the primitive type of the objects this Factory creates.
+	 * Factories of primitive values override this method to fill primitive arrays without boxing each value.
+	 * </p>
+	 * 
+	 * @param array
+	 *            The array to fill.
+	 * @param length
+	 *            The number of elements to create, starting at index 0.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the array is not an array, or length is negative or greater than the length of the array.
+	 */
+	default void createInto(Object array, int length) throws IllegalArgumentException {
+		ValidationHelper.ensureExists("array", "create objects into array", array);
+		ValidationHelper.ensureLength(Array.getLength(array), length);
+		if (array instanceof Object[]) {
+			Object[] objects = (Object[]) array;
+			for (int idx = 0; idx < length; idx++) {
+				objects[idx] = create();
+			}
+		} else {
+			for (int idx = 0; idx < length; idx++) {
+				Array.set(array, idx, create());
+			}
+		}
+	}
+
+	/**
+	 * Create count new objects of the specified type and add them to the specified collection.
+	 * 
+	 * @param collection
+	 *            The collection to add the objects to.
+	 * @param count
+	 *            The number of objects to create.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the collection is null, or count is negative.
+	 */
+	default void createInto(Collection<? super T> collection, int count) throws IllegalArgumentException {
+		ValidationHelper.ensureExists("collection", "create objects into collection", collection);
+		ValidationHelper.ensure(count >= 0, "Cannot create a negative number of objects.");
+		for (int idx = 0; idx < count; idx++) {
+			collection.add(create());
+		}
+	}
 }
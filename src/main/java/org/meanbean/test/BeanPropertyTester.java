@@ -86,8 +86,8 @@ public class BeanPropertyTester {
 			throw new IllegalArgumentException(msg);
 		}
 		try {
-			property.getWriteMethod().invoke(bean, testValue);
-			Object readMethodOutput = property.getReadMethod().invoke(bean);
+			property.setter().set(bean, testValue);
+			Object readMethodOutput = property.getter().get(bean);
 			
 			UrlEqualityTestWarning.ifNeeded(equalityTest, bean, propertyName, testValue);
 			UrlEqualityTestWarning.ifNeeded(equalityTest, bean, propertyName, readMethodOutput);
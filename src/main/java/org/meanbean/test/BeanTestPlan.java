@@ -0,0 +1,195 @@
+/*-
+ * ​​​
+ * meanbean
+ * ⁣⁣⁣
+ * Copyright (C) 2010 - 2020 the original author or authors.
+ * ⁣⁣⁣
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ﻿﻿﻿﻿﻿
+ */
+
+package org.meanbean.test;
+
+import org.meanbean.bean.info.BeanInformation;
+import org.meanbean.bean.info.PropertyInformation;
+import org.meanbean.bean.util.PropertyInformationFilter;
+import org.meanbean.factories.BasicNewObjectInstanceFactory;
+import org.meanbean.factories.util.FactoryLookupStrategy;
+import org.meanbean.lang.Factory;
+import org.meanbean.test.internal.EqualityTest;
+import org.meanbean.test.internal.SideEffectDetector;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Immutable plan for testing the getters and setters of one bean type. The properties to test, the Factory of each
+ * property's test values, the equality test of each property and the bean instantiator are resolved once when the
+ * plan is compiled, so that each test iteration only has to create values, set them and get them.
+ */
+final class BeanTestPlan {
+
+	/** Information about the bean type being tested. */
+	private final BeanInformation beanInformation;
+
+	/** Factory used to instantiate the bean under test. */
+	private final Factory<Object> beanFactory;
+
+	/** The readable and writable properties that should be tested, in declaration order. */
+	private final List<PropertyInformation> properties;
+
+	/** How each property should be tested, keyed by property. */
+	private final Map<PropertyInformation, PropertyTest> propertyTests;
+
+	/** Creates a fresh SideEffectDetector for each test iteration. */
+	private final Supplier<SideEffectDetector> sideEffectDetectorSupplier;
+
+	private BeanTestPlan(BeanInformation beanInformation, Factory<Object> beanFactory,
+			List<PropertyInformation> properties, Map<PropertyInformation, PropertyTest> propertyTests,
+			Supplier<SideEffectDetector> sideEffectDetectorSupplier) {
+		this.beanInformation = beanInformation;
+		this.beanFactory = beanFactory;
+		this.properties = Collections.unmodifiableList(properties);
+		this.propertyTests = Collections.unmodifiableMap(propertyTests);
+		this.sideEffectDetectorSupplier = sideEffectDetectorSupplier;
+	}
+
+	/**
+	 * Compile a test plan for the bean type described by the specified beanInformation.
+	 * 
+	 * @param beanInformation
+	 *            Information about the bean type to be tested.
+	 * @param configuration
+	 *            The custom Configuration to be used when testing the bean type. May be <code>null</code>.
+	 * @param factoryLookupStrategy
+	 *            Provides the Factory of each property's test values.
+	 * @param sideEffectDetectorSupplier
+	 *            Creates a fresh SideEffectDetector for each test iteration.
+	 * 
+	 * @return The compiled test plan.
+	 * 
+	 * @throws BeanTestException
+	 *             If a Factory cannot be found for a property.
+	 */
+	static BeanTestPlan compile(BeanInformation beanInformation, Configuration configuration,
+			FactoryLookupStrategy factoryLookupStrategy, Supplier<SideEffectDetector> sideEffectDetectorSupplier)
+			throws BeanTestException {
+		// Get just the properties of the bean that are readable and writable
+		// Skip testing any 'ignored' properties
+		List<PropertyInformation> properties = PropertyInformationFilter.filter(beanInformation.getProperties(),
+				configuration);
+
+		Factory<Object> beanFactory = BasicNewObjectInstanceFactory.findBeanFactory(beanInformation.getBeanClass());
+
+		Map<PropertyInformation, PropertyTest> propertyTests = new HashMap<>();
+		for (PropertyInformation property : properties) {
+			Factory<?> valueFactory;
+			try {
+				valueFactory = factoryLookupStrategy.getFactory(beanInformation, property, configuration);
+			} catch (Exception e) {
+				throw testValueException(beanInformation, property, e);
+			}
+			propertyTests.put(property, new PropertyTest(beanInformation, property, valueFactory));
+		}
+		return new BeanTestPlan(beanInformation, beanFactory, properties, propertyTests, sideEffectDetectorSupplier);
+	}
+
+	/**
+	 * Instantiate a new bean to be tested.
+	 * 
+	 * @return A new instance of the bean type.
+	 * 
+	 * @throws BeanTestException
+	 *             If the bean cannot be instantiated.
+	 */
+	Object createBean() throws BeanTestException {
+		try {
+			return beanFactory.create();
+		} catch (Exception e) {
+			String message = "Cannot test bean [" + beanInformation.getBeanClass().getName()
+					+ "]. Failed to instantiate an instance of the bean.";
+			throw new BeanTestException(message, e);
+		}
+	}
+
+	Class<?> getBeanClass() {
+		return beanInformation.getBeanClass();
+	}
+
+	SideEffectDetector createSideEffectDetector() {
+		return sideEffectDetectorSupplier.get();
+	}
+
+	/**
+	 * @return A modifiable copy of the properties to test, in declaration order.
+	 */
+	List<PropertyInformation> copyProperties() {
+		return new ArrayList<>(properties);
+	}
+
+	PropertyTest getPropertyTest(PropertyInformation property) {
+		return propertyTests.get(property);
+	}
+
+	private static BeanTestException testValueException(BeanInformation beanInformation, PropertyInformation property,
+			Exception e) {
+		String message = "Cannot test bean [" + beanInformation.getBeanClass().getName()
+				+ "]. Failed to instantiate a test value for property [" + property.getName() + "].";
+		return new BeanTestException(message, e);
+	}
+
+	/**
+	 * How a single property should be tested: the Factory of its test values and the equality test to apply.
+	 */
+	static final class PropertyTest {
+
+		private final BeanInformation beanInformation;
+
+		private final PropertyInformation property;
+
+		private final Factory<?> valueFactory;
+
+		private final EqualityTest equalityTest;
+
+		private PropertyTest(BeanInformation beanInformation, PropertyInformation property, Factory<?> valueFactory) {
+			this.beanInformation = beanInformation;
+			this.property = property;
+			this.valueFactory = valueFactory;
+			this.equalityTest = valueFactory instanceof BasicNewObjectInstanceFactory
+					? EqualityTest.ABSOLUTE
+					: EqualityTest.LOGICAL;
+		}
+
+		/**
+		 * Create a new test value for the property.
+		 * 
+		 * @throws BeanTestException
+		 *             If the test value cannot be created.
+		 */
+		Object createTestValue() throws BeanTestException {
+			try {
+				return valueFactory.create();
+			} catch (Exception e) {
+				throw testValueException(beanInformation, property, e);
+			}
+		}
+
+		EqualityTest getEqualityTest() {
+			return equalityTest;
+		}
+	}
+}
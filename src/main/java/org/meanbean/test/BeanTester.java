@@ -23,22 +23,22 @@ package org.meanbean.test;
 import org.meanbean.bean.info.BeanInformation;
 import org.meanbean.bean.info.BeanInformationFactory;
 import org.meanbean.bean.info.PropertyInformation;
-import org.meanbean.bean.util.PropertyInformationFilter;
-import org.meanbean.factories.BasicNewObjectInstanceFactory;
 import org.meanbean.factories.FactoryCollection;
 import org.meanbean.factories.util.FactoryLookupStrategy;
-import org.meanbean.lang.Factory;
-import org.meanbean.test.internal.EqualityTest;
+import org.meanbean.test.BeanTestPlan.PropertyTest;
+import org.meanbean.test.VerificationMetricsListener.Phase;
 import org.meanbean.test.internal.NoopSideEffectDetector;
 import org.meanbean.test.internal.SideEffectDetector;
+import org.meanbean.test.internal.SideEffectDetectorFactory;
 import org.meanbean.util.RandomValueGenerator;
 import org.meanbean.util.ServiceFactory;
-import org.meanbean.util.ServiceLoader;
 import org.meanbean.util.ValidationHelper;
 
 import java.util.List;
 import java.util.Map;
+import java.util.Random;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
 
 /**
  * <p>
@@ -350,12 +350,38 @@ public class BeanTester {
 		if (iterations < 1) {
 			throw new IllegalArgumentException("Iterations must be at least 1.");
 		}
-		
+		boolean adaptiveIterations = defaultConfiguration.getAdaptiveIterations();
+		if ((customConfiguration != null) && (customConfiguration.hasAdaptiveIterationsOverride())) {
+			adaptiveIterations = customConfiguration.getAdaptiveIterations();
+		}
+
+		VerificationMetrics metrics = VerificationMetrics.current();
+		long start = metrics.start();
+		try {
+			int testIterations = iterations;
+			boolean testAdaptively = adaptiveIterations;
+			ReproducibleVerification.run(randomValueGenerator, beanClass,
+					() -> testBean(beanClass, customConfiguration, testIterations, testAdaptively, metrics));
+		} finally {
+			metrics.phaseCompleted(beanClass, Phase.GETTERS_AND_SETTERS, start);
+		}
+	}
+
+	private void testBean(Class<?> beanClass, Configuration customConfiguration, int iterations,
+			boolean adaptiveIterations, VerificationMetrics metrics) throws AssertionError, BeanTestException {
 		// Get all information about a potential JavaBean class
 		BeanInformation beanInformation = beanInformationFactory.create(beanClass);
-		// Test the JavaBean 'iterations' times
+		// Resolve everything that does not change between iterations once
+		BeanTestPlan testPlan = compileTestPlan(beanInformation, customConfiguration);
+		PropertyValueCoverage coverage = adaptiveIterations
+				? new PropertyValueCoverage(testPlan.copyProperties())
+				: null;
+		// Test the JavaBean 'iterations' times, or until every property value has been tested
 		for (int idx = 0; idx < iterations; idx++) {
-			testBean(beanInformation, customConfiguration);
+			testBean(testPlan, metrics, coverage);
+			if (coverage != null && coverage.isCovered()) {
+				break;
+			}
 		}
 	}
 
@@ -394,56 +420,56 @@ public class BeanTester {
 			throws IllegalArgumentException, AssertionError, BeanTestException {
 		ValidationHelper.ensureExists("beanInformation", "test bean", beanInformation);
 
-		// Get just the properties of the bean that are readable and writable
-		// Skip testing any 'ignored' properties
-		List<PropertyInformation> readableWritableProperties = PropertyInformationFilter.filter(beanInformation.getProperties(),
-				configuration);
+		testBean(compileTestPlan(beanInformation, configuration), VerificationMetrics.current(), null);
+	}
+
+	private BeanTestPlan compileTestPlan(BeanInformation beanInformation, Configuration configuration) {
+		return BeanTestPlan.compile(beanInformation, configuration, factoryLookupStrategy,
+				sideEffectDetectorSupplier(configuration));
+	}
+
+	/**
+	 * Perform a single test iteration of the specified test plan against a new bean instance, recording the tested
+	 * values in coverage unless it is <code>null</code>.
+	 */
+	private void testBean(BeanTestPlan testPlan, VerificationMetrics metrics, PropertyValueCoverage coverage)
+			throws AssertionError, BeanTestException {
+		Class<?> beanClass = testPlan.getBeanClass();
 
 		// Instantiate
-		Factory<Object> beanFactory = BasicNewObjectInstanceFactory.findBeanFactory(beanInformation.getBeanClass());
-		Object bean;
-		try {
-			bean = beanFactory.create();
-		} catch (Exception e) {
-			String message = "Cannot test bean [" + beanInformation.getBeanClass().getName()
-					+ "]. Failed to instantiate an instance of the bean.";
-			throw new BeanTestException(message, e);
-		}
+		long creationStart = metrics.start();
+		Object bean = testPlan.createBean();
+		metrics.phaseCompleted(beanClass, Phase.BEAN_CREATION, creationStart);
 
-		SideEffectDetector sideEffectDetector = createSideEffectDetector(configuration);
-		sideEffectDetector.init(bean, readableWritableProperties);
+		SideEffectDetector sideEffectDetector = testPlan.createSideEffectDetector();
+		// the property order is drawn from the generator too, so that a seed reproduces the value of each property
+		Random random = new Random(randomValueGenerator.nextLong());
+		List<PropertyInformation> properties = sideEffectDetector.init(bean, testPlan.copyProperties(), random);
 
 		// Test each property
-		for (PropertyInformation property : readableWritableProperties) {
-			EqualityTest equalityTest = EqualityTest.LOGICAL;
-			Object testValue = null;
-			try {
-				Factory<?> valueFactory = factoryLookupStrategy.getFactory(beanInformation, property, configuration);
-				testValue = valueFactory.create();
-				if (valueFactory instanceof BasicNewObjectInstanceFactory) {
-					equalityTest = EqualityTest.ABSOLUTE;
-				}
-			} catch (Exception e) {
-				String message = "Cannot test bean [" + beanInformation.getBeanClass().getName()
-						+ "]. Failed to instantiate a test value for property [" + property.getName()
-						+ "].";
-				throw new BeanTestException(message, e);
-			}
+		for (PropertyInformation property : properties) {
+			long propertyStart = metrics.start();
+			PropertyTest propertyTest = testPlan.getPropertyTest(property);
+			Object testValue = propertyTest.createTestValue();
 
-			sideEffectDetector.beforeTestProperty(property, equalityTest);
-			beanPropertyTester.testProperty(bean, property, testValue, equalityTest);
+			sideEffectDetector.beforeTestProperty(property, propertyTest.getEqualityTest());
+			beanPropertyTester.testProperty(bean, property, testValue, propertyTest.getEqualityTest());
 			sideEffectDetector.detectAfterTestProperty();
+			if (coverage != null) {
+				coverage.record(property, testValue);
+			}
+			metrics.propertyTested(beanClass, property.getName(), propertyStart);
 		}
 	}
 
 	/**
 	 * @see VerifierSettings#suppressWarning(Warning)
 	 */
-	private SideEffectDetector createSideEffectDetector(Configuration configuration) {
+	private Supplier<SideEffectDetector> sideEffectDetectorSupplier(Configuration configuration) {
 		if (configuration != null && configuration.isSuppressedWarning(Warning.SETTER_SIDE_EFFECT)) {
-			return NoopSideEffectDetector.INSTANCE;
+			return () -> NoopSideEffectDetector.INSTANCE;
 		}
-		ServiceLoader<SideEffectDetector> serviceLoader = new ServiceLoader<>(SideEffectDetector.class);
-		return serviceLoader.createAll().get(0);
+		SideEffectDetectorFactory sideEffectDetectorFactory = SideEffectDetectorFactory.getInstance();
+		return sideEffectDetectorFactory::create;
 	}
 }
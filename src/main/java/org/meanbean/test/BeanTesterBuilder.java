@@ -45,6 +45,9 @@ import static org.meanbean.util.PropertyNameFinder.findPropertyName;
  */
 public class BeanTesterBuilder {
 
+	/** The number of objects created by default to test the hash code distribution of a type. */
+	static final int DEFAULT_HASH_CODE_DISTRIBUTION_SAMPLE_SIZE = 1000;
+
 	private RandomValueGenerator randomValueGenerator;
 
 	private FactoryCollection factoryCollection;
@@ -59,6 +62,12 @@ public class BeanTesterBuilder {
 
 	private Configuration defaultConfiguration;
 
+	private int hashCodeDistributionSampleSize = DEFAULT_HASH_CODE_DISTRIBUTION_SAMPLE_SIZE;
+
+	private double hashCodeDistributionThreshold;
+
+	private boolean methodCostProfiling;
+
 	public static BeanTesterBuilder newBeanTesterBuilder() {
 		return new BeanTesterBuilder();
 	}
@@ -186,6 +195,95 @@ public class BeanTesterBuilder {
 		return this;
 	}
 
+	public boolean isDefaultAdaptiveIterations() {
+		return defaultConfiguration.getAdaptiveIterations();
+	}
+
+	/**
+	 * Set whether testing a type may stop before the number of iterations by default, once each of its properties has
+	 * been tested with enough values
+	 * 
+	 * @see Configuration#getAdaptiveIterations()
+	 */
+	public BeanTesterBuilder setDefaultAdaptiveIterations(boolean adaptiveIterations) {
+		this.defaultConfiguration.setAdaptiveIterations(adaptiveIterations);
+		return this;
+	}
+
+	public int getDefaultConsistencyChecks() {
+		return defaultConfiguration.getConsistencyChecks();
+	}
+
+	/**
+	 * Set the number of times equals and hashCode are invoked on the same objects by default to check that they are
+	 * consistent
+	 * 
+	 * @see Configuration#getConsistencyChecks()
+	 */
+	public BeanTesterBuilder setDefaultConsistencyChecks(int consistencyChecks) {
+		this.defaultConfiguration.setConsistencyChecks(consistencyChecks);
+		return this;
+	}
+
+	/**
+	 * Set the number of times a type should be tested and the number of consistency checks by default to those of the
+	 * specified profile
+	 * 
+	 * @see VerificationProfile
+	 */
+	public BeanTesterBuilder setProfile(VerificationProfile profile) {
+		ValidationHelper.ensureExists("profile", "apply profile", profile);
+		return setDefaultIterations(profile.getIterations())
+				.setDefaultConsistencyChecks(profile.getConsistencyChecks());
+	}
+
+	public int getHashCodeDistributionSampleSize() {
+		return hashCodeDistributionSampleSize;
+	}
+
+	/**
+	 * Set the number of objects created to test the hash code distribution of a type
+	 * 
+	 * @see HashCodeMethodTester#testHashCodeDistribution(Class, int, double)
+	 */
+	public BeanTesterBuilder setHashCodeDistributionSampleSize(int sampleSize) {
+		ValidationHelper.ensure(sampleSize >= 1, "Sample size must be at least 1.");
+		this.hashCodeDistributionSampleSize = sampleSize;
+		return this;
+	}
+
+	public double getHashCodeDistributionThreshold() {
+		return hashCodeDistributionThreshold;
+	}
+
+	/**
+	 * Set the lowest acceptable hash code distribution quality, between 0 and 1. The hash code distribution of a type
+	 * is only tested if the threshold is above 0, which it is not by default.
+	 * 
+	 * @see HashCodeMethodTester#testHashCodeDistribution(Class, int, double)
+	 */
+	public BeanTesterBuilder setHashCodeDistributionThreshold(double threshold) {
+		ValidationHelper.ensure(threshold >= 0 && threshold <= 1, "Threshold must be between 0 and 1.");
+		this.hashCodeDistributionThreshold = threshold;
+		return this;
+	}
+
+	public boolean isMethodCostProfiling() {
+		return methodCostProfiling;
+	}
+
+	/**
+	 * Set whether the cost of the equals and hashCode methods of a type is profiled after they have been tested,
+	 * which it is not by default
+	 * 
+	 * @see HashCodeMethodTester#profileHashCodeMethod(Class)
+	 * @see EqualsMethodTester#profileEqualsMethod(Class)
+	 */
+	public BeanTesterBuilder setMethodCostProfiling(boolean methodCostProfiling) {
+		this.methodCostProfiling = methodCostProfiling;
+		return this;
+	}
+
 	public int getIterations(Class<?> beanClass) {
 		return getConfigurationFor(beanClass).getIterations();
 	}
@@ -294,7 +392,7 @@ public class BeanTesterBuilder {
 	}
 
 	public HashCodeMethodTester buildHashCodeMethodTester() {
-		return HashCodeMethodTester.createWithInheritedContext();
+		return HashCodeMethodTester.createWithInheritedContext(customConfigurations, defaultConfiguration);
 	}
 
 	public ToStringMethodTester buildToStringMethodTester() {
@@ -0,0 +1,124 @@
+/*-
+ * ​​​
+ * meanbean
+ * ⁣⁣⁣
+ * Copyright (C) 2010 - 2020 the original author or authors.
+ * ⁣⁣⁣
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ﻿﻿﻿﻿﻿
+ */
+
+package org.meanbean.test;
+
+import org.meanbean.util.ServiceFactory;
+
+import java.time.Duration;
+import java.util.function.Consumer;
+
+/**
+ * The outcome of one check of one bean class, as reported by {@link BeanVerifier#verificationResultsOf(Class...)}.
+ * A result records which check was run against which bean class, how long it took and, if the check failed, why.
+ */
+public final class BeanVerificationResult {
+
+	/**
+	 * The checks that are performed on each bean class, in the order they are performed.
+	 */
+	public enum Check {
+
+		/** @see BeanVerifier#verifyGettersAndSetters() */
+		GETTERS_AND_SETTERS(BeanVerifier::verifyGettersAndSetters),
+
+		/** @see BeanVerifier#verifyEqualsAndHashCode() */
+		EQUALS_AND_HASH_CODE(BeanVerifier::verifyEqualsAndHashCode),
+
+		/** @see BeanVerifier#verifyToString() */
+		TO_STRING(BeanVerifier::verifyToString);
+
+		private final Consumer<BeanVerifier> verification;
+
+		Check(Consumer<BeanVerifier> verification) {
+			this.verification = verification;
+		}
+
+		BeanVerificationResult run(BeanVerifier beanVerifier, Class<?> beanClass) {
+			// results may be consumed between checks, so reselect the context of this bean's verifier
+			ServiceFactory.createContext(beanVerifier);
+			Throwable failure = null;
+			long start = System.nanoTime();
+			try {
+				verification.accept(beanVerifier);
+			} catch (AssertionError | RuntimeException e) {
+				failure = e;
+			}
+			Duration duration = Duration.ofNanos(System.nanoTime() - start);
+			return new BeanVerificationResult(beanClass, this, duration, failure);
+		}
+	}
+
+	private final Class<?> beanClass;
+
+	private final Check check;
+
+	private final Duration duration;
+
+	private final Throwable failure;
+
+	BeanVerificationResult(Class<?> beanClass, Check check, Duration duration, Throwable failure) {
+		this.beanClass = beanClass;
+		this.check = check;
+		this.duration = duration;
+		this.failure = failure;
+	}
+
+	/**
+	 * @return The bean class that was checked.
+	 */
+	public Class<?> getBeanClass() {
+		return beanClass;
+	}
+
+	/**
+	 * @return The check that was performed.
+	 */
+	public Check getCheck() {
+		return check;
+	}
+
+	/**
+	 * @return How long the check took.
+	 */
+	public Duration getDuration() {
+		return duration;
+	}
+
+	/**
+	 * @return Whether the bean class passed the check.
+	 */
+	public boolean isSuccess() {
+		return failure == null;
+	}
+
+	/**
+	 * @return The AssertionError or exception the check failed with, or null if the bean class passed the check.
+	 */
+	public Throwable getFailure() {
+		return failure;
+	}
+
+	@Override
+	public String toString() {
+		return "BeanVerificationResult[beanClass=" + beanClass.getName() + ",check=" + check + ",duration="
+				+ duration + ",failure=" + failure + "]";
+	}
+}
@@ -21,8 +21,10 @@
 package org.meanbean.test;
 
 import org.meanbean.util.ClassPathUtils;
+import org.meanbean.util.ValidationHelper;
 
 import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 /**
  * BeanVerifier can be used in unit tests to verify
@@ -37,7 +39,13 @@ import java.util.function.Consumer;
  * BeanVerifier.verifyBean(Company.class); // verify bean methods, equals/hashCode and toString
  * 
  * BeanVerifier.verifyBeans(Company.class, Employee.class);
- * 
+ *
+ * BeanVerifier.verifyBeansInParallel(Company.class, Employee.class); // verify concurrently, reporting all failures
+ *
+ * BeanVerifier.verificationResultsOf(Company.class, Employee.class) // verify lazily, one result per bean and check
+ *     .filter(result -&gt; !result.isSuccess())
+ *     .forEach(result -&gt; report(result));
+ *
  * BeanVerifier.forClass(Company.class)
  *     .withSettings(settings -&gt; settings.setDefaultIterations(12))
  *     .withSettings(settings -&gt; settings.addIgnoredProperty(Company::getName)) // exclude name property in bean getter/setter test
@@ -88,6 +96,75 @@ public interface BeanVerifier {
 		verifyBeansIn(packageObj.getName());
 	}
 
+	/**
+	 * Concurrently verify that given beanClasses have valid bean getters/setters, equals/hashCode, and toString methods,
+	 * using one worker per available processor. All beanClasses are verified and failures are reported together.
+	 */
+	public static void verifyBeansInParallel(Class<?>... beanClasses) {
+		verifyBeansInParallel(Runtime.getRuntime().availableProcessors(), beanClasses);
+	}
+
+	/**
+	 * Concurrently verify that given beanClasses have valid bean getters/setters, equals/hashCode, and toString methods,
+	 * using at most parallelism workers. All beanClasses are verified and failures are reported together.
+	 */
+	public static void verifyBeansInParallel(int parallelism, Class<?>... beanClasses) {
+		new ParallelBeanVerification(parallelism).verify(beanClasses);
+	}
+
+	/**
+	 * Concurrently verify that bean classes in given packageName have valid bean getters/setters, equals/hashCode, and
+	 * toString methods. All bean classes are verified and failures are reported together.
+	 */
+	public static void verifyBeansInParallelIn(String packageName) {
+		Class<?>[] beanClasses = ClassPathUtils.findClassesIn(packageName);
+		verifyBeansInParallel(beanClasses);
+	}
+
+	/**
+	 * Concurrently verify that bean classes in given packageName have valid bean getters/setters, equals/hashCode, and
+	 * toString methods, using at most parallelism workers. All bean classes are verified and failures are reported together.
+	 */
+	public static void verifyBeansInParallelIn(String packageName, int parallelism) {
+		Class<?>[] beanClasses = ClassPathUtils.findClassesIn(packageName);
+		verifyBeansInParallel(parallelism, beanClasses);
+	}
+
+	/**
+	 * Lazily verify that given beanClasses have valid bean getters/setters, equals/hashCode, and toString methods. Each
+	 * check of each beanClass is performed when the returned stream reaches its result, and verification carries on
+	 * after failed checks.
+	 * 
+	 * @return one result per beanClass and {@link BeanVerificationResult.Check}, in the order of the beanClasses
+	 */
+	public static Stream<BeanVerificationResult> verificationResultsOf(Class<?>... beanClasses) {
+		ValidationHelper.ensureExists("beanClasses", "verify beans", beanClasses);
+		return Stream.of(beanClasses)
+				.flatMap(beanClass -> {
+					BeanVerifier beanVerifier = forClass(beanClass);
+					return Stream.of(BeanVerificationResult.Check.values())
+							.map(check -> check.run(beanVerifier, beanClass));
+				});
+	}
+
+	/**
+	 * Lazily verify that bean classes in given packageName have valid bean getters/setters, equals/hashCode, and
+	 * toString methods, as {@link #verificationResultsOf(Class...)} does.
+	 */
+	public static Stream<BeanVerificationResult> verificationResultsIn(String packageName) {
+		Class<?>[] beanClasses = ClassPathUtils.findClassesIn(packageName);
+		return verificationResultsOf(beanClasses);
+	}
+
+	/**
+	 * Verify that given beanClasses have valid bean getters/setters, equals/hashCode, and toString methods, passing
+	 * the result of each check to resultConsumer as soon as it is known. Verification carries on after failed checks.
+	 */
+	public static void verifyBeans(Consumer<? super BeanVerificationResult> resultConsumer, Class<?>... beanClasses) {
+		ValidationHelper.ensureExists("resultConsumer", "verify beans", resultConsumer);
+		verificationResultsOf(beanClasses).forEach(resultConsumer);
+	}
+
 	/**
 	 * Customizes bean verification settings. Example:
 	 * <pre>
@@ -25,6 +25,8 @@ import org.meanbean.bean.info.BeanInformationFactory;
 import org.meanbean.factories.FactoryCollection;
 import org.meanbean.factories.util.FactoryLookupStrategy;
 import org.meanbean.lang.Factory;
+import org.meanbean.logging.$Logger;
+import org.meanbean.logging.$LoggerFactory;
 import org.meanbean.util.RandomValueGenerator;
 import org.meanbean.util.ServiceFactory;
 
@@ -34,6 +36,8 @@ import static org.meanbean.test.BeanTesterBuilder.newBeanTesterBuilderWithInheri
 
 class BeanVerifierImpl implements BeanVerifier, VerifierSettings, VerifierSettingsEditor {
 
+	private static final $Logger logger = $LoggerFactory.getLogger(BeanVerifierImpl.class);
+
 	private Class<?> beanClass;
 	private final BeanTesterBuilder builder;
 
@@ -67,11 +71,29 @@ class BeanVerifierImpl implements BeanVerifier, VerifierSettings, VerifierSettin
 
 	@Override
 	public BeanVerifier verifyEqualsAndHashCode() {
-		builder.buildEqualsMethodTester().testEqualsMethod(beanClass);
-		builder.buildHashCodeMethodTester().testHashCodeMethod(beanClass);
+		EqualsMethodTester equalsMethodTester = builder.buildEqualsMethodTester();
+		equalsMethodTester.testEqualsMethod(beanClass);
+		HashCodeMethodTester hashCodeMethodTester = builder.buildHashCodeMethodTester();
+		hashCodeMethodTester.testHashCodeMethod(beanClass);
+		if (builder.getHashCodeDistributionThreshold() > 0) {
+			hashCodeMethodTester.testHashCodeDistribution(beanClass, builder.getHashCodeDistributionSampleSize(),
+					builder.getHashCodeDistributionThreshold());
+		}
+		if (builder.isMethodCostProfiling()) {
+			logMethodCost(equalsMethodTester.profileEqualsMethod(beanClass));
+			logMethodCost(hashCodeMethodTester.profileHashCodeMethod(beanClass));
+		}
 		return this;
 	}
 
+	private static void logMethodCost(MethodCost cost) {
+		if (cost.isFlagged()) {
+			logger.warn("Costly method {}", cost);
+		} else {
+			logger.info("Method {}", cost);
+		}
+	}
+
 	@Override
 	public BeanVerifier verifyToString() {
 		builder.buildToStringMethodTester().testToStringMethod(beanClass);
@@ -151,6 +173,67 @@ class BeanVerifierImpl implements BeanVerifier, VerifierSettings, VerifierSettin
 		return this;
 	}
 
+	@Override
+	public boolean isDefaultAdaptiveIterations() {
+		return builder.isDefaultAdaptiveIterations();
+	}
+
+	@Override
+	public VerifierSettingsEditor setDefaultAdaptiveIterations(boolean adaptiveIterations) {
+		builder.setDefaultAdaptiveIterations(adaptiveIterations);
+		return this;
+	}
+
+	@Override
+	public int getDefaultConsistencyChecks() {
+		return builder.getDefaultConsistencyChecks();
+	}
+
+	@Override
+	public VerifierSettingsEditor setDefaultConsistencyChecks(int consistencyChecks) {
+		builder.setDefaultConsistencyChecks(consistencyChecks);
+		return this;
+	}
+
+	@Override
+	public VerifierSettingsEditor setProfile(VerificationProfile profile) {
+		builder.setProfile(profile);
+		return this;
+	}
+
+	@Override
+	public int getHashCodeDistributionSampleSize() {
+		return builder.getHashCodeDistributionSampleSize();
+	}
+
+	@Override
+	public VerifierSettingsEditor setHashCodeDistributionSampleSize(int sampleSize) {
+		builder.setHashCodeDistributionSampleSize(sampleSize);
+		return this;
+	}
+
+	@Override
+	public double getHashCodeDistributionThreshold() {
+		return builder.getHashCodeDistributionThreshold();
+	}
+
+	@Override
+	public VerifierSettingsEditor setHashCodeDistributionThreshold(double threshold) {
+		builder.setHashCodeDistributionThreshold(threshold);
+		return this;
+	}
+
+	@Override
+	public boolean isMethodCostProfiling() {
+		return builder.isMethodCostProfiling();
+	}
+
+	@Override
+	public VerifierSettingsEditor setMethodCostProfiling(boolean methodCostProfiling) {
+		builder.setMethodCostProfiling(methodCostProfiling);
+		return this;
+	}
+
 	@Override
 	public VerifierSettingsEditor addIgnoredPropertyName(String property) {
 		builder.addIgnoredPropertyName(beanClass(), property);
@@ -58,6 +58,9 @@ import static java.util.EnumSet.noneOf;
  * 
  * <ul>
  * <li>The number of times a type is tested.</li>
+ * <li>Whether testing of a type may stop before all iterations once its properties have been tested with enough
+ * values.</li>
+ * <li>The number of times equals and hashCode are invoked to check that they are consistent.</li>
  * <li>Whether a property is tested or not, by specifying properties of a type that should be ignored.</li>
  * <li>The Factory that should be used when generating test data for a given property.</li>
  * </ul>
@@ -68,9 +71,24 @@ import static java.util.EnumSet.noneOf;
  */
 public class Configuration {
 
+	/** Default number of times equals and hashCode are invoked on the same objects to check that they are consistent. */
+	public static final int CONSISTENCY_CHECKS_PER_BEAN = 100;
+
 	/** The number of times a type should be tested. This will be null if it has not been overriden. */
 	private Integer iterations;
 
+	/**
+	 * Whether testing a type may stop early once every property has been tested with enough values. This will be null
+	 * if it has not been overriden.
+	 */
+	private Boolean adaptiveIterations;
+
+	/**
+	 * The number of times equals and hashCode are invoked on the same objects to check that they are consistent. This
+	 * will be null if it has not been overriden.
+	 */
+	private Integer consistencyChecks;
+
 	/** Any properties of a type that should not be tested. Contains property names. */
 	private Set<String> ignoredProperties;
 
@@ -103,7 +121,12 @@ public class Configuration {
 	}
 
     static Configuration defaultConfiguration() {
-        return new Configuration(BeanTester.TEST_ITERATIONS_PER_BEAN, emptySet(), emptyMap(), noneOf(Warning.class));
+        VerificationProfile profile = VerificationProfile.getDefault();
+        Configuration configuration = new Configuration(profile.getIterations(), emptySet(), emptyMap(),
+                noneOf(Warning.class));
+        configuration.setAdaptiveIterations(false);
+        configuration.setConsistencyChecks(profile.getConsistencyChecks());
+        return configuration;
     }
 
     static Configuration defaultMutableConfiguration(int iterations) {
@@ -132,6 +155,59 @@ public class Configuration {
 		return iterations;
 	}
 
+	/**
+	 * Does this Configuration contain an override for whether testing a type may stop early, or should the standard
+	 * global configuration setting be used instead?
+	 * 
+	 * @return <code>true</code> if this Configuration contains an override for adaptive iterations; <code>false</code>
+	 *         if the standard global configuration setting should be used instead.
+	 */
+	public boolean hasAdaptiveIterationsOverride() {
+		return getAdaptiveIterations() != null;
+	}
+
+	/**
+	 * <p>
+	 * Get whether testing a type may stop before all iterations have been performed. <br>
+	 * </p>
+	 * 
+	 * <p>
+	 * With adaptive iterations, a type is tested until each of its properties has been tested with enough values, or
+	 * until the number of iterations is reached. Boolean and enum properties are set to every value of their value
+	 * space, and primitive, primitive wrapper and String properties to 10 distinct values. A type with any other
+	 * property keeps the full number of iterations.
+	 * </p>
+	 * 
+	 * @return Whether testing a type may stop early. This will be <code>null</code> if it has not been overridden in
+	 *         this Configuration. Use <code>hasAdaptiveIterationsOverride()</code> first to check whether an override
+	 *         is present.
+	 */
+	public Boolean getAdaptiveIterations() {
+		return adaptiveIterations;
+	}
+
+	/**
+	 * Does this Configuration contain an override for the number of consistency checks, or should the standard global
+	 * configuration setting be used instead?
+	 * 
+	 * @return <code>true</code> if this Configuration contains an override for the number of consistency checks;
+	 *         <code>false</code> if the standard global configuration setting should be used instead.
+	 */
+	public boolean hasConsistencyChecksOverride() {
+		return getConsistencyChecks() != null;
+	}
+
+	/**
+	 * Get the number of times equals and hashCode are invoked on the same objects to check that they are consistent.
+	 * 
+	 * @return The number of consistency checks. This will be <code>null</code> if it has not been overridden in this
+	 *         Configuration. Use <code>hasConsistencyChecksOverride()</code> first to check whether an override is
+	 *         present.
+	 */
+	public Integer getConsistencyChecks() {
+		return consistencyChecks;
+	}
+
 	/**
 	 * Should the specified property been disregarded/ignored during testing?
 	 * 
@@ -224,6 +300,16 @@ public class Configuration {
 		this.iterations = iterations;
 	}
 
+	void setAdaptiveIterations(Boolean adaptiveIterations) {
+		this.adaptiveIterations = adaptiveIterations;
+	}
+
+	void setConsistencyChecks(Integer consistencyChecks) {
+		ValidationHelper.ensure(consistencyChecks == null || consistencyChecks >= 1,
+				"Consistency checks must be at least 1.");
+		this.consistencyChecks = consistencyChecks;
+	}
+
 	List<String> getEqualsInsignificantProperties() {
 		return equalsInsignificantProperties;
 	}
@@ -45,6 +45,12 @@ public class ConfigurationBuilder {
 	/** The number of times a type should be tested. */
 	private Integer iterations;
 
+	/** Whether testing a type may stop early once every property value space has been covered. */
+	private Boolean adaptiveIterations;
+
+	/** The number of times equals and hashCode are invoked on the same objects to check that they are consistent. */
+	private Integer consistencyChecks;
+
 	/** Any properties of a type that should not be tested. Contains property names. */
 	private final Set<String> ignoredProperties = ConcurrentHashMap.newKeySet();
 
@@ -81,6 +87,57 @@ public class ConfigurationBuilder {
 		return this;
 	}
 
+	/**
+	 * Set whether testing a type may stop before all iterations once each of its properties has been set to every value
+	 * of its value space. Only boolean and enum properties have a value space that can be covered.
+	 * 
+	 * @param adaptiveIterations
+	 *            <code>true</code> if testing may stop early; <code>false</code> to always perform all iterations.
+	 * 
+	 * @return A Configuration Builder.
+	 */
+	public ConfigurationBuilder adaptiveIterations(boolean adaptiveIterations) {
+		this.adaptiveIterations = adaptiveIterations;
+		return this;
+	}
+
+	/**
+	 * Set the number of times equals and hashCode are invoked on the same objects to check that they are consistent.
+	 * 
+	 * @param consistencyChecks
+	 *            The number of consistency checks.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the consistencyChecks parameter is deemed illegal. For example, if it is less than 1.
+	 * 
+	 * @return A Configuration Builder.
+	 */
+	public ConfigurationBuilder consistencyChecks(int consistencyChecks) {
+		if (consistencyChecks < 1) {
+			throw new IllegalArgumentException("Consistency checks must be at least 1.");
+		}
+		this.consistencyChecks = consistencyChecks;
+		return this;
+	}
+
+	/**
+	 * Set the number of times a type should be tested and the number of consistency checks to those of the specified
+	 * profile.
+	 * 
+	 * @param profile
+	 *            The profile whose budgets should be used.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the profile parameter is deemed illegal. For example, if it is null.
+	 * 
+	 * @return A Configuration Builder.
+	 */
+	public ConfigurationBuilder profile(VerificationProfile profile) {
+		ValidationHelper.ensureExists("profile", "apply profile", profile);
+		return iterations(profile.getIterations())
+				.consistencyChecks(profile.getConsistencyChecks());
+	}
+
 	/**
 	 * Mark the specified property as one to be disregarded/ignored during testing.
 	 * 
@@ -125,8 +182,11 @@ public class ConfigurationBuilder {
      * @return A Configuration object.
      */
     public Configuration build() {
-        return new Configuration(iterations, unmodifiableSet(ignoredProperties), unmodifiableMap(overrideFactories),
-                unmodifiableSet(suppressedWarnings));
+        Configuration configuration = new Configuration(iterations, unmodifiableSet(ignoredProperties),
+                unmodifiableMap(overrideFactories), unmodifiableSet(suppressedWarnings));
+        configuration.setAdaptiveIterations(adaptiveIterations);
+        configuration.setConsistencyChecks(consistencyChecks);
+        return configuration;
     }
 
 	/**
@@ -64,6 +64,25 @@ class EqualsMethodContractVerifier {
 	/** Null value */
 	private static final Object NULL = null;
 
+	/** The number of times equals is invoked on the same objects to verify the consistent item. */
+	private final int consistencyChecks;
+
+	/**
+	 * Construct a verifier that verifies the consistent item as many times as the default {@link VerificationProfile}
+	 * specifies.
+	 */
+	EqualsMethodContractVerifier() {
+		this(VerificationProfile.getDefault().getConsistencyChecks());
+	}
+
+	/**
+	 * Construct a verifier that verifies the consistent item the specified number of times.
+	 */
+	EqualsMethodContractVerifier(int consistencyChecks) {
+		ValidationHelper.ensure(consistencyChecks >= 1, "Consistency checks must be at least 1.");
+		this.consistencyChecks = consistencyChecks;
+	}
+
 	/**
 	 * <p>
 	 * Verify that the equals logic implemented by the type the specified factory creates is correct by testing:
@@ -106,12 +125,62 @@ class EqualsMethodContractVerifier {
 	 */
 	public void verifyEqualsMethod(EquivalentFactory<?> factory) throws IllegalArgumentException, AssertionError {
 		ValidationHelper.ensureExists("factory", "test equals", factory);
-		verifyEqualsReflexive(factory);
-		verifyEqualsSymmetric(factory);
-		verifyEqualsTransitive(factory);
-		verifyEqualsConsistent(factory);
-		verifyEqualsNull(factory);
-		verifyEqualsDifferentType(factory);
+		verifyEqualsContract(factory);
+	}
+
+	/**
+	 * <p>
+	 * Verify every item of the equals contract, as {@link #verifyEqualsMethod(EquivalentFactory)} describes, against a
+	 * single triple of objects x, y and z created by the specified factory. <br>
+	 * </p>
+	 * 
+	 * <p>
+	 * Only three objects are created, instead of one or more per item. The items are verified in the same order, and
+	 * fail with the same exceptions and messages, as when each <code>verifyEquals*</code> method is invoked in turn.
+	 * The first three objects play the same roles as they would for the reflexive and symmetric items. As the objects
+	 * are then shared between the items, an equals method whose result depends on its earlier invocations may fail a
+	 * later item at a different invocation.
+	 * </p>
+	 * 
+	 * @param factory
+	 *            An EquivalentFactory that creates non-null logically equivalent objects that will be used to test
+	 *            whether the equals logic implemented by the type is correct. The factory must create logically
+	 *            equivalent but different actual instances of the type upon each invocation of <code>create()</code> in
+	 *            order for the test to be meaningful and correct.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the specified factory is deemed illegal. For example, if it is <code>null</code>, if it creates a
+	 *             <code>null</code> object or if it creates objects that are not logically equivalent.
+	 * @throws AssertionError
+	 *             If the test fails.
+	 */
+	public void verifyEqualsContract(EquivalentFactory<?> factory) throws IllegalArgumentException, AssertionError {
+		verifyEqualsContract(factory, consistencyChecks);
+	}
+
+	/**
+	 * Verify every item of the equals contract as {@link #verifyEqualsContract(EquivalentFactory)} does, invoking
+	 * equals the specified number of times to verify the consistent item.
+	 */
+	void verifyEqualsContract(EquivalentFactory<?> factory, int consistencyChecks)
+	        throws IllegalArgumentException, AssertionError {
+		ValidationHelper.ensureExists("factory", "test equals reflexive item", factory);
+		Object x = factory.create();
+		ValidationHelper.ensureExists("factory-created object", "test equals reflexive item", x);
+		checkReflexive(x);
+
+		// y and z are created and checked as the objects of the symmetric item would be on their own
+		Object y = factory.create();
+		Object z = factory.create();
+		ValidationHelper.ensureExists("factory-created object", "test equals symmetric item", y);
+		ValidationHelper.ensureExists("factory-created object", "test equals symmetric item", z);
+		checkSymmetric(y, z);
+
+		checkTransitive(x, y, z);
+
+		checkConsistent(x, y, consistencyChecks);
+		checkNull(x);
+		checkDifferentType(x);
 	}
 
 	/**
@@ -140,6 +209,10 @@ class EqualsMethodContractVerifier {
 		ValidationHelper.ensureExists("factory", "test equals reflexive item", factory);
 		Object x = factory.create();
 		ValidationHelper.ensureExists("factory-created object", "test equals reflexive item", x);
+		checkReflexive(x);
+	}
+
+	private static void checkReflexive(Object x) throws AssertionError {
 		if (!x.equals(x)) {
 			AssertionUtils.fail("equals is not reflexive.");
 		}
@@ -173,6 +246,10 @@ class EqualsMethodContractVerifier {
 		Object y = factory.create();
 		ValidationHelper.ensureExists("factory-created object", "test equals symmetric item", x);
 		ValidationHelper.ensureExists("factory-created object", "test equals symmetric item", y);
+		checkSymmetric(x, y);
+	}
+
+	private static void checkSymmetric(Object x, Object y) throws IllegalArgumentException, AssertionError {
 		if (!x.equals(y)) {
 			String message =
 			        "Cannot test equals symmetric item if factory does not create logically equivalent "
@@ -215,6 +292,10 @@ class EqualsMethodContractVerifier {
 		ValidationHelper.ensureExists("factory-created object", "test equals transitive item", x);
 		ValidationHelper.ensureExists("factory-created object", "test equals transitive item", y);
 		ValidationHelper.ensureExists("factory-created object", "test equals transitive item", z);
+		checkTransitive(x, y, z);
+	}
+
+	private static void checkTransitive(Object x, Object y, Object z) throws IllegalArgumentException, AssertionError {
 		if (!(x.equals(y) && y.equals(z))) {
 			String message =
 			        "Cannot test equals transitive item if factory does not create logically equivalent objects.";
@@ -253,7 +334,11 @@ class EqualsMethodContractVerifier {
 		Object y = factory.create();
 		ValidationHelper.ensureExists("factory-created object", "test equals consistent item", x);
 		ValidationHelper.ensureExists("factory-created object", "test equals consistent item", y);
-		for (int idx = 0; idx < 100; idx++) {
+		checkConsistent(x, y, consistencyChecks);
+	}
+
+	private static void checkConsistent(Object x, Object y, int consistencyChecks) throws AssertionError {
+		for (int idx = 0; idx < consistencyChecks; idx++) {
 			if (!x.equals(y)) {
 				AssertionUtils.fail("equals is not consistent on invocation [" + idx + "].");
 			}
@@ -287,6 +372,10 @@ class EqualsMethodContractVerifier {
 		ValidationHelper.ensureExists("factory", "test equals null item", factory);
 		Object x = factory.create();
 		ValidationHelper.ensureExists("factory-created object", "test equals null item", x);
+		checkNull(x);
+	}
+
+	private static void checkNull(Object x) throws AssertionError {
 		if (x.equals(NULL)) {
 			AssertionUtils.fail("equals is incorrect with respect to null comparison.");
 		}
@@ -318,8 +407,12 @@ class EqualsMethodContractVerifier {
 	public void verifyEqualsDifferentType(EquivalentFactory<?> factory) throws IllegalArgumentException, AssertionError {
 		ValidationHelper.ensureExists("factory", "test equals for different types", factory);
 		Object x = factory.create();
-		Object differentObject = new Object();
 		ValidationHelper.ensureExists("factory-created object", "test equals for different types", x);
+		checkDifferentType(x);
+	}
+
+	private static void checkDifferentType(Object x) throws AssertionError {
+		Object differentObject = new Object();
 		if (x.equals(differentObject)) {
 			AssertionUtils.fail("equals should not find objects of different type to be equal.");
 		}
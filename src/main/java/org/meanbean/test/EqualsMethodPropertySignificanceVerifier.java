@@ -159,4 +159,36 @@ interface EqualsMethodPropertySignificanceVerifier {
 	void verifyEqualsMethod(EquivalentFactory<?> factory, Configuration customConfiguration,
 	        String... insignificantProperties) throws IllegalArgumentException, BeanInformationException,
 	        BeanTestException, AssertionError;
+
+	/**
+	 * Verify the equals logic as {@link #verifyEqualsMethod(EquivalentFactory, Configuration, String...)} does, the
+	 * specified number of times. Implementations may share work, such as introspection of the type or lookup of
+	 * property factories, between iterations.
+	 * 
+	 * @param factory
+	 *            An EquivalentFactory that creates non-null logically equivalent objects that will be used to test the
+	 *            equals logic.
+	 * @param customConfiguration
+	 *            A custom Configuration to be used when testing, or <code>null</code>.
+	 * @param iterations
+	 *            The number of times the equals logic is verified.
+	 * @param insignificantProperties
+	 *            The names of properties that are not used when deciding whether objects are logically equivalent.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If either the specified factory or insignificantProperties are deemed illegal.
+	 * @throws BeanInformationException
+	 *             If a problem occurs when trying to obtain information about the type to test.
+	 * @throws BeanTestException
+	 *             If a problem occurs when testing the type.
+	 * @throws AssertionError
+	 *             If the test fails.
+	 */
+	default void verifyEqualsMethod(EquivalentFactory<?> factory, Configuration customConfiguration, int iterations,
+	        String... insignificantProperties) throws IllegalArgumentException, BeanInformationException,
+	        BeanTestException, AssertionError {
+		for (int idx = 0; idx < iterations; idx++) {
+			verifyEqualsMethod(factory, customConfiguration, insignificantProperties);
+		}
+	}
 }
@@ -26,6 +26,8 @@ import org.meanbean.factories.equivalent.EquivalentEnumFactory;
 import org.meanbean.factories.equivalent.EquivalentPopulatedBeanFactory;
 import org.meanbean.factories.util.FactoryLookupStrategy;
 import org.meanbean.lang.EquivalentFactory;
+import org.meanbean.test.VerificationMetricsListener.Phase;
+import org.meanbean.util.RandomValueGenerator;
 import org.meanbean.util.ServiceFactory;
 import org.meanbean.util.ValidationHelper;
 
@@ -151,6 +153,9 @@ public class EqualsMethodTester {
 	/** The verifier to which property significance verification is delegated. */
 	private final EqualsMethodPropertySignificanceVerifier propertySignificanceVerifier;
 
+	/** Random number generator used by factories to randomly generate values. */
+	private final RandomValueGenerator randomValueGenerator;
+
 	private final Configuration defaultConfiguration;
 	private final Map<Class<?>, Configuration> customConfigurations;
 
@@ -164,6 +169,7 @@ public class EqualsMethodTester {
 		this.propertySignificanceVerifier = new PropertyBasedEqualsMethodPropertySignificanceVerifier();
 		this.contractVerifier = new EqualsMethodContractVerifier();
 		this.beanInformationFactory = BeanInformationFactory.getInstance();
+		this.randomValueGenerator = RandomValueGenerator.getInstance();
 	}
 
 	static EqualsMethodTester createWithInheritedContext(Map<Class<?>, Configuration> customConfigurations,
@@ -178,6 +184,7 @@ public class EqualsMethodTester {
 		this.propertySignificanceVerifier = new PropertyBasedEqualsMethodPropertySignificanceVerifier();
 		this.beanInformationFactory = BeanInformationFactory.getInstance();
 		this.contractVerifier = new EqualsMethodContractVerifier();
+		this.randomValueGenerator = RandomValueGenerator.getInstance();
 	}
 
 	/**
@@ -298,9 +305,15 @@ public class EqualsMethodTester {
 	public void testEqualsMethod(Class<?> clazz, Configuration customConfiguration, String... insignificantProperties)
 			throws IllegalArgumentException, BeanInformationException, BeanTestException, AssertionError {
 		ValidationHelper.ensureExists("clazz", "test equals method", clazz);
-		EquivalentFactory<?> factory = createEquivalentFactory(clazz);
-		customConfiguration = getEffectiveConfiguration(clazz, customConfiguration);
-		testEqualsMethod(factory, customConfiguration, insignificantProperties);
+		VerificationMetrics metrics = VerificationMetrics.current();
+		long start = metrics.start();
+		try {
+			Configuration effectiveConfiguration = getEffectiveConfiguration(clazz, customConfiguration);
+			ReproducibleVerification.run(randomValueGenerator, clazz, () -> testEqualsMethod(
+					createEquivalentFactory(clazz), effectiveConfiguration, insignificantProperties));
+		} finally {
+			metrics.phaseCompleted(clazz, Phase.EQUALS, start);
+		}
 	}
 
 	/**
@@ -433,14 +446,14 @@ public class EqualsMethodTester {
 				? defaultConfiguration.getEqualsInsignificantProperties().toArray(new String[0])
 				: insignificantProperties;
 
-		contractVerifier.verifyEqualsReflexive(factory);
-		contractVerifier.verifyEqualsSymmetric(factory);
-		contractVerifier.verifyEqualsTransitive(factory);
-		contractVerifier.verifyEqualsConsistent(factory);
-		contractVerifier.verifyEqualsNull(factory);
-		contractVerifier.verifyEqualsDifferentType(factory);
-
 		customConfiguration = getEffectiveConfiguration(null, customConfiguration);
+		// Override the standard number of consistency checks if need be
+		int consistencyChecks = defaultConfiguration.getConsistencyChecks();
+		if (customConfiguration.hasConsistencyChecksOverride()) {
+			consistencyChecks = customConfiguration.getConsistencyChecks();
+		}
+		contractVerifier.verifyEqualsContract(factory, consistencyChecks);
+
 		// Override the standard number of iterations if need be
 		int iterations = defaultConfiguration.getIterations();
 		if (customConfiguration.hasIterationsOverride()) {
@@ -448,9 +461,36 @@ public class EqualsMethodTester {
 		}
 
 		// Test property significance 'iterations' times
-		for (int idx = 0; idx < iterations; idx++) {
-			propertySignificanceVerifier.verifyEqualsMethod(factory, customConfiguration, insignificantProperties);
-		}
+		propertySignificanceVerifier.verifyEqualsMethod(factory, customConfiguration, iterations,
+				insignificantProperties);
+	}
+
+	/**
+	 * <p>
+	 * Measure the cost of the equals method implemented by the specified type, comparing logically equivalent, but
+	 * distinct, populated objects. The cost is reported in nanoseconds and bytes allocated per invocation, and is
+	 * flagged if the method allocates, for example by calling <code>Arrays.asList</code>, or if it takes notably
+	 * longer when the collection and map properties of the objects hold many elements. <br>
+	 * </p>
+	 * 
+	 * <p>
+	 * The cost is also reported to each registered {@link VerificationMetricsListener}. Profiling never fails a test.
+	 * </p>
+	 * 
+	 * @param clazz
+	 *            The type to profile the equals method of.
+	 * 
+	 * @return The measured cost.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the specified clazz is deemed illegal. For example, if it is <code>null</code>.
+	 */
+	public MethodCost profileEqualsMethod(Class<?> clazz) throws IllegalArgumentException {
+		ValidationHelper.ensureExists("clazz", "profile equals method", clazz);
+		MethodCost cost = new MethodCostProfiler(beanInformationFactory.create(clazz),
+				FactoryLookupStrategy.getInstance()).profileEquals();
+		VerificationMetrics.current().methodProfiled(cost);
+		return cost;
 	}
 
 	private Configuration getEffectiveConfiguration(Class<?> beanClass, Configuration configuration) {
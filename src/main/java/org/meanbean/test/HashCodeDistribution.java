@@ -0,0 +1,175 @@
+/*-
+ * ​​​
+ * meanbean
+ * ⁣⁣⁣
+ * Copyright (C) 2010 - 2020 the original author or authors.
+ * ⁣⁣⁣
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ﻿﻿﻿﻿﻿
+ */
+
+package org.meanbean.test;
+
+/**
+ * Measures how well the hash codes of distinct objects spread over the buckets of a hash table. Objects are recorded
+ * into a table sized as a HashMap holding the maximum number of samples would be, and bucket occupancy is kept in a
+ * primitive histogram, so memory is bounded by the number of samples. Equal objects are recorded only once.
+ * <p>
+ * Two measures are reported, both relative to a uniformly random hash function, so that 1 is as good as can be
+ * expected and 0 is a constant hash code:
+ * </p>
+ * <ul>
+ * <li>bucket quality - the number of occupied buckets compared with the number expected for a random hash</li>
+ * <li>bit dispersion - how evenly the bits of the hash codes vary, compared with the number of bits needed to tell the
+ * distinct objects apart</li>
+ * </ul>
+ */
+final class HashCodeDistribution {
+
+	/** Load factor of a HashMap, used to size the table like a HashMap holding all samples. */
+	private static final double LOAD_FACTOR = 0.75;
+
+	/** The distinct objects recorded, in order of recording. */
+	private final Object[] samples;
+
+	/** The hash code of each distinct object recorded. */
+	private final int[] hashCodes;
+
+	/** Index of the next object in the same bucket, plus one; 0 ends a bucket. */
+	private final int[] nextInBucket;
+
+	/** Index of the first object in each bucket, plus one; 0 for an empty bucket. */
+	private final int[] bucketHeads;
+
+	/** Number of distinct objects in each bucket. */
+	private final int[] bucketCounts;
+
+	/** Number of distinct objects whose hash code has each bit set. */
+	private final int[] bitCounts = new int[Integer.SIZE];
+
+	/** Number of distinct objects recorded. */
+	private int distinctCount;
+
+	/** Number of buckets holding at least one object. */
+	private int occupiedBuckets;
+
+	HashCodeDistribution(int sampleSize) {
+		samples = new Object[sampleSize];
+		hashCodes = new int[sampleSize];
+		nextInBucket = new int[sampleSize];
+		int bucketCount = Integer.highestOneBit(Math.max(1, (int) Math.ceil(sampleSize / LOAD_FACTOR)) - 1) << 1;
+		bucketHeads = new int[Math.max(1, bucketCount)];
+		bucketCounts = new int[bucketHeads.length];
+	}
+
+	/**
+	 * Record the specified non-null object, unless an equal object has been recorded already or the sample size has
+	 * been reached.
+	 * 
+	 * @return <code>true</code> if the object was recorded as a distinct object; <code>false</code> otherwise.
+	 */
+	boolean record(Object sample) {
+		int hashCode = sample.hashCode();
+		int bucket = spread(hashCode) & (bucketHeads.length - 1);
+		for (int idx = bucketHeads[bucket]; idx != 0; idx = nextInBucket[idx - 1]) {
+			if (hashCodes[idx - 1] == hashCode && samples[idx - 1].equals(sample)) {
+				return false;
+			}
+		}
+		if (distinctCount == samples.length) {
+			return false;
+		}
+		samples[distinctCount] = sample;
+		hashCodes[distinctCount] = hashCode;
+		nextInBucket[distinctCount] = bucketHeads[bucket];
+		bucketHeads[bucket] = ++distinctCount;
+		if (bucketCounts[bucket]++ == 0) {
+			occupiedBuckets++;
+		}
+		for (int bit = 0; bit < Integer.SIZE; bit++) {
+			bitCounts[bit] += (hashCode >>> bit) & 1;
+		}
+		return true;
+	}
+
+	int getDistinctCount() {
+		return distinctCount;
+	}
+
+	/**
+	 * @return The size of the largest bucket.
+	 */
+	int getLongestBucket() {
+		int longest = 0;
+		for (int count : bucketCounts) {
+			longest = Math.max(longest, count);
+		}
+		return longest;
+	}
+
+	/**
+	 * @return The fraction of distinct objects that share their bucket with an object recorded before them.
+	 */
+	double getCollisionRate() {
+		return distinctCount == 0 ? 0 : (double) (distinctCount - occupiedBuckets) / distinctCount;
+	}
+
+	/**
+	 * @return The collision rate expected of a uniformly random hash function.
+	 */
+	double getExpectedCollisionRate() {
+		return distinctCount == 0 ? 0 : (distinctCount - getExpectedOccupiedBuckets()) / distinctCount;
+	}
+
+	/**
+	 * @return The number of occupied buckets compared with the number expected of a uniformly random hash function,
+	 *         between 0 and 1.
+	 */
+	double getBucketQuality() {
+		return distinctCount == 0 ? 1 : Math.min(1, occupiedBuckets / getExpectedOccupiedBuckets());
+	}
+
+	/**
+	 * @return The sum of the balance of each hash code bit, compared with the number of bits needed to tell the
+	 *         distinct objects apart, between 0 and 1. A bit set in half of the hash codes has a balance of 1, a bit
+	 *         set in all or none of them a balance of 0.
+	 */
+	double getBitDispersion() {
+		if (distinctCount < 2) {
+			return 1;
+		}
+		double effectiveBits = 0;
+		for (int count : bitCounts) {
+			effectiveBits += 2.0 * Math.min(count, distinctCount - count) / distinctCount;
+		}
+		double neededBits = Math.min(Integer.SIZE, Math.log(distinctCount) / Math.log(2));
+		return Math.min(1, effectiveBits / neededBits);
+	}
+
+	/**
+	 * @return The lower of bucket quality and bit dispersion.
+	 */
+	double getQuality() {
+		return Math.min(getBucketQuality(), getBitDispersion());
+	}
+
+	private double getExpectedOccupiedBuckets() {
+		double bucketCount = bucketHeads.length;
+		return bucketCount * (1 - Math.pow(1 - 1 / bucketCount, distinctCount));
+	}
+
+	/** Spreads the high bits of a hash code into the bucket index, as a HashMap does. */
+	private static int spread(int hashCode) {
+		return hashCode ^ (hashCode >>> 16);
+	}
+}
@@ -22,14 +22,20 @@ package org.meanbean.test;
 
 import org.meanbean.bean.info.BeanInformationFactory;
 import org.meanbean.factories.FactoryCollection;
+import org.meanbean.factories.beans.PopulatedBeanFactory;
 import org.meanbean.factories.equivalent.EquivalentPopulatedBeanFactory;
 import org.meanbean.factories.util.FactoryLookupStrategy;
 import org.meanbean.lang.EquivalentFactory;
+import org.meanbean.lang.Factory;
+import org.meanbean.test.VerificationMetricsListener.Phase;
 import org.meanbean.util.AssertionUtils;
 import org.meanbean.util.RandomValueGenerator;
 import org.meanbean.util.ServiceFactory;
 import org.meanbean.util.ValidationHelper;
 
+import java.util.Collections;
+import java.util.Locale;
+import java.util.Map;
 import java.util.function.Consumer;
 
 /**
@@ -104,23 +110,31 @@ public class HashCodeMethodTester {
 	/** Factory used to gather information about a given bean and store it in a BeanInformation object. */
 	private final BeanInformationFactory beanInformationFactory;
 
+	private final Configuration defaultConfiguration;
+	private final Map<Class<?>, Configuration> customConfigurations;
+
 	/**
 	 * Prefer {@link BeanVerifier}
 	 */
 	public HashCodeMethodTester() {
-		this(ServiceFactory::createContext);
+		this(ServiceFactory::createContext, Collections.emptyMap(), Configuration.defaultConfiguration());
 	}
 	
-	static HashCodeMethodTester createWithInheritedContext() {
-		return new HashCodeMethodTester(ServiceFactory::createContextIfNeeded);
+	static HashCodeMethodTester createWithInheritedContext(Map<Class<?>, Configuration> customConfigurations,
+			Configuration defaultConfiguration) {
+		return new HashCodeMethodTester(ServiceFactory::createContextIfNeeded, customConfigurations,
+				defaultConfiguration);
 	}
 
-	private HashCodeMethodTester(Consumer<HashCodeMethodTester> contextCreator) {
+	private HashCodeMethodTester(Consumer<HashCodeMethodTester> contextCreator,
+			Map<Class<?>, Configuration> customConfigurations, Configuration defaultConfiguration) {
 		contextCreator.accept(this);
 		randomValueGenerator = RandomValueGenerator.getInstance();
 		factoryCollection = FactoryCollection.getInstance();
 		factoryLookupStrategy = FactoryLookupStrategy.getInstance();
 		beanInformationFactory = BeanInformationFactory.getInstance();
+		this.customConfigurations = customConfigurations;
+		this.defaultConfiguration = defaultConfiguration;
 	}
 
 	/**
@@ -157,6 +171,12 @@ public class HashCodeMethodTester {
 		testHashCodeConsistent(factory);
 	}
 
+	private void testHashCodeMethod(EquivalentFactory<?> factory, int consistencyChecks)
+	        throws IllegalArgumentException, AssertionError {
+		testHashCodesEqual(factory);
+		testHashCodeConsistent(factory, consistencyChecks);
+	}
+
 	/**
 	 * <p>
 	 * Test that the hashCode logic implemented by the specified type is correct by testing:
@@ -183,9 +203,17 @@ public class HashCodeMethodTester {
 	 */
 	public void testHashCodeMethod(Class<?> clazz) throws IllegalArgumentException, AssertionError {
 		ValidationHelper.ensureExists("clazz", "test hash code method", clazz);
-		EquivalentPopulatedBeanFactory factory =
-		        new EquivalentPopulatedBeanFactory(beanInformationFactory.create(clazz), getFactoryLookupStrategy());
-		testHashCodeMethod(factory);
+		VerificationMetrics metrics = VerificationMetrics.current();
+		long start = metrics.start();
+		try {
+			ReproducibleVerification.run(randomValueGenerator, clazz, () -> {
+				EquivalentPopulatedBeanFactory factory = new EquivalentPopulatedBeanFactory(
+				        beanInformationFactory.create(clazz), getFactoryLookupStrategy());
+				testHashCodeMethod(factory, getConsistencyChecks(clazz));
+			});
+		} finally {
+			metrics.phaseCompleted(clazz, Phase.HASH_CODE, start);
+		}
 	}
 
 	/**
@@ -249,17 +277,136 @@ public class HashCodeMethodTester {
 	 *             If the test fails.
 	 */
 	protected void testHashCodeConsistent(EquivalentFactory<?> factory) throws IllegalArgumentException, AssertionError {
+		testHashCodeConsistent(factory, defaultConfiguration.getConsistencyChecks());
+	}
+
+	private void testHashCodeConsistent(EquivalentFactory<?> factory, int consistencyChecks)
+	        throws IllegalArgumentException, AssertionError {
 		ValidationHelper.ensureExists("factory", "test hash code consistent item", factory);
 		Object x = factory.create();
 		ValidationHelper.ensureExists("factory-created object", "test hash code consistent item", x);
 		int hashCode = x.hashCode();
-		for (int idx = 0; idx < 100; idx++) {
+		for (int idx = 0; idx < consistencyChecks; idx++) {
 			if (x.hashCode() != hashCode) {
 				AssertionUtils.fail("hashCode is not consistent on invocation [" + idx + "].");
 			}
 		}
 	}
 
+	/**
+	 * <p>
+	 * Test that the hashCode logic implemented by the specified type spreads distinct objects over the buckets of a
+	 * hash table about as well as a random hash function would. This catches hashCode implementations that are
+	 * correct, but collide so often that hash based collections degrade to linear searches.
+	 * </p>
+	 * 
+	 * <p>
+	 * Up to sampleSize distinct objects are created with different property values, and both the bucket collision
+	 * rate and the dispersion of the hash code bits are measured relative to a uniformly random hash function. The
+	 * test fails if the lower of the two, between 0 and 1, is below the specified minimumQuality.
+	 * </p>
+	 * 
+	 * @param clazz
+	 *            The type to test the hashCode logic of.
+	 * @param sampleSize
+	 *            The number of objects to create. Memory used is proportional to this number.
+	 * @param minimumQuality
+	 *            The lowest acceptable quality, between 0 and 1.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the specified clazz is deemed illegal. For example, if it is <code>null</code>. Also, if
+	 *             sampleSize is less than 1 or minimumQuality is not between 0 and 1.
+	 * @throws AssertionError
+	 *             If the test fails.
+	 */
+	public void testHashCodeDistribution(Class<?> clazz, int sampleSize, double minimumQuality)
+	        throws IllegalArgumentException, AssertionError {
+		ValidationHelper.ensureExists("clazz", "test hash code distribution", clazz);
+		ReproducibleVerification.run(randomValueGenerator, clazz, () -> {
+			PopulatedBeanFactory factory =
+			        new PopulatedBeanFactory(beanInformationFactory.create(clazz), getFactoryLookupStrategy());
+			testHashCodeDistribution(factory, sampleSize, minimumQuality);
+		});
+	}
+
+	/**
+	 * Test that the hashCode logic implemented by the type the specified factory creates spreads distinct objects
+	 * over the buckets of a hash table about as well as a random hash function would, as
+	 * {@link #testHashCodeDistribution(Class, int, double)} does.
+	 * 
+	 * @param factory
+	 *            A Factory that creates non-null objects that differ from each other, such as a
+	 *            {@link PopulatedBeanFactory}. Objects equal to one created before are disregarded.
+	 * @param sampleSize
+	 *            The number of objects to create. Memory used is proportional to this number.
+	 * @param minimumQuality
+	 *            The lowest acceptable quality, between 0 and 1.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the specified factory is deemed illegal. For example, if it is <code>null</code> or if it creates
+	 *             a <code>null</code> object. Also, if sampleSize is less than 1 or minimumQuality is not between 0
+	 *             and 1.
+	 * @throws AssertionError
+	 *             If the test fails.
+	 */
+	public void testHashCodeDistribution(Factory<?> factory, int sampleSize, double minimumQuality)
+	        throws IllegalArgumentException, AssertionError {
+		ValidationHelper.ensureExists("factory", "test hash code distribution", factory);
+		ValidationHelper.ensure(sampleSize >= 1, "Sample size must be at least 1.");
+		ValidationHelper.ensure(minimumQuality >= 0 && minimumQuality <= 1,
+		        "Minimum quality must be between 0 and 1.");
+		HashCodeDistribution distribution = new HashCodeDistribution(sampleSize);
+		for (int idx = 0; idx < sampleSize; idx++) {
+			Object sample = factory.create();
+			ValidationHelper.ensureExists("factory-created object", "test hash code distribution", sample);
+			distribution.record(sample);
+		}
+		if (distribution.getQuality() < minimumQuality) {
+			AssertionUtils.fail(String.format(Locale.ROOT,
+			        "hashCode distribution quality [%.2f] is below [%.2f]: [%d] distinct objects collide at a rate of "
+			                + "[%.2f] (expected [%.2f], longest bucket [%d]) with a hash code bit dispersion of [%.2f].",
+			        distribution.getQuality(), minimumQuality, distribution.getDistinctCount(),
+			        distribution.getCollisionRate(), distribution.getExpectedCollisionRate(),
+			        distribution.getLongestBucket(), distribution.getBitDispersion()));
+		}
+	}
+
+	/**
+	 * <p>
+	 * Measure the cost of the hashCode method implemented by the specified type, on populated objects. The cost is
+	 * reported in nanoseconds and bytes allocated per invocation, and is flagged if the method allocates, for example
+	 * by calling <code>Objects.hash</code> or <code>Arrays.asList</code>, or if it takes notably longer when the
+	 * collection and map properties of the objects hold many elements. <br>
+	 * </p>
+	 * 
+	 * <p>
+	 * The cost is also reported to each registered {@link VerificationMetricsListener}. Profiling never fails a test.
+	 * </p>
+	 * 
+	 * @param clazz
+	 *            The type to profile the hashCode method of.
+	 * 
+	 * @return The measured cost.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the specified clazz is deemed illegal. For example, if it is <code>null</code>.
+	 */
+	public MethodCost profileHashCodeMethod(Class<?> clazz) throws IllegalArgumentException {
+		ValidationHelper.ensureExists("clazz", "profile hash code method", clazz);
+		MethodCost cost =
+		        new MethodCostProfiler(beanInformationFactory.create(clazz), getFactoryLookupStrategy()).profileHashCode();
+		VerificationMetrics.current().methodProfiled(cost);
+		return cost;
+	}
+
+	private int getConsistencyChecks(Class<?> beanClass) {
+		Configuration configuration = customConfigurations.get(beanClass);
+		if (configuration != null && configuration.hasConsistencyChecksOverride()) {
+			return configuration.getConsistencyChecks();
+		}
+		return defaultConfiguration.getConsistencyChecks();
+	}
+
 	/**
 	 * Get a RandomValueGenerator.
 	 * 
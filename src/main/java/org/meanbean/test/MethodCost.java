@@ -0,0 +1,127 @@
+/*-
+ * ​​​
+ * meanbean
+ * ⁣⁣⁣
+ * Copyright (C) 2010 - 2020 the original author or authors.
+ * ⁣⁣⁣
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ﻿﻿﻿﻿﻿
+ */
+
+package org.meanbean.test;
+
+import java.util.Locale;
+
+/**
+ * The measured cost of the equals or hashCode method of a bean class, as reported by
+ * {@link HashCodeMethodTester#profileHashCodeMethod(Class)} and {@link EqualsMethodTester#profileEqualsMethod(Class)}.
+ * <br>
+ * 
+ * Costs are measured without the isolation of a benchmark harness, so they are indicative only. They are best
+ * compared between bean classes profiled in the same run.
+ */
+public final class MethodCost {
+
+	/** Allocation per operation from which a method is considered to allocate, in bytes. */
+	static final double ALLOCATION_THRESHOLD = 1;
+
+	private final Class<?> beanClass;
+
+	private final String methodName;
+
+	private final double nanosPerOperation;
+
+	private final double bytesPerOperation;
+
+	private final boolean scalingWithCollectionSize;
+
+	MethodCost(Class<?> beanClass, String methodName, double nanosPerOperation, double bytesPerOperation,
+			boolean scalingWithCollectionSize) {
+		this.beanClass = beanClass;
+		this.methodName = methodName;
+		this.nanosPerOperation = nanosPerOperation;
+		this.bytesPerOperation = bytesPerOperation;
+		this.scalingWithCollectionSize = scalingWithCollectionSize;
+	}
+
+	/**
+	 * @return The profiled bean class.
+	 */
+	public Class<?> getBeanClass() {
+		return beanClass;
+	}
+
+	/**
+	 * @return The name of the profiled method, <code>equals</code> or <code>hashCode</code>.
+	 */
+	public String getMethodName() {
+		return methodName;
+	}
+
+	/**
+	 * @return The average time of one invocation on populated beans, in nanoseconds.
+	 */
+	public double getNanosPerOperation() {
+		return nanosPerOperation;
+	}
+
+	/**
+	 * @return The average heap allocation of one invocation on populated beans, in bytes, or -1 if the JVM cannot
+	 *         measure allocation.
+	 */
+	public double getBytesPerOperation() {
+		return bytesPerOperation;
+	}
+
+	/**
+	 * @return <code>true</code> if the method allocates on the heap, for example varargs arrays of
+	 *         <code>Objects.hash</code> or lists of <code>Arrays.asList</code>; <code>false</code> otherwise.
+	 */
+	public boolean isAllocating() {
+		return bytesPerOperation >= ALLOCATION_THRESHOLD;
+	}
+
+	/**
+	 * @return <code>true</code> if the method takes notably longer when the collection and map properties of the bean
+	 *         hold many elements than when they are empty; <code>false</code> otherwise.
+	 */
+	public boolean isScalingWithCollectionSize() {
+		return scalingWithCollectionSize;
+	}
+
+	/**
+	 * @return <code>true</code> if the method allocates or scales with collection size.
+	 */
+	public boolean isFlagged() {
+		return isAllocating() || isScalingWithCollectionSize();
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder result = new StringBuilder();
+		result.append(beanClass.getName()).append('.').append(methodName)
+				.append(String.format(Locale.ROOT, ": %.1f ns/op, ", nanosPerOperation));
+		if (bytesPerOperation < 0) {
+			result.append("unknown bytes/op");
+		} else {
+			result.append(String.format(Locale.ROOT, "%.1f bytes/op", bytesPerOperation));
+		}
+		if (isAllocating()) {
+			result.append(", allocates");
+		}
+		if (scalingWithCollectionSize) {
+			result.append(", scales with collection size");
+		}
+		return result.toString();
+	}
+}
@@ -0,0 +1,264 @@
+/*-
+ * ​​​
+ * meanbean
+ * ⁣⁣⁣
+ * Copyright (C) 2010 - 2020 the original author or authors.
+ * ⁣⁣⁣
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ﻿﻿﻿﻿﻿
+ */
+
+package org.meanbean.test;
+
+import org.meanbean.bean.info.BeanInformation;
+import org.meanbean.bean.info.PropertyInformation;
+import org.meanbean.factories.equivalent.EquivalentPopulatedBeanFactory;
+import org.meanbean.factories.util.FactoryLookupStrategy;
+import org.meanbean.lang.EquivalentFactory;
+import org.meanbean.lang.Factory;
+
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.ToIntBiFunction;
+
+/**
+ * Measures the cost of the equals or hashCode method of a bean class on a pair of logically equivalent, populated
+ * beans. The method is warmed up, then the fastest of a few timed rounds is kept, along with the bytes the current
+ * thread allocated in that round where the JVM can tell. <br>
+ * 
+ * To find out whether the cost scales with collection size, the method is also timed on beans with every collection
+ * and map property empty, and on beans with every one of them holding {@link #LARGE_COLLECTION_SIZE} elements. The
+ * beans of a pair are given equal, but distinct, collections, so that equals has to compare their elements.
+ */
+final class MethodCostProfiler {
+
+	static final int WARMUP_OPERATIONS = 20_000;
+
+	static final int MEASURED_OPERATIONS = 20_000;
+
+	private static final int ROUNDS = 5;
+
+	/** The number of elements collection and map properties are given to find out whether the cost scales. */
+	static final int LARGE_COLLECTION_SIZE = 1024;
+
+	/** How many times slower than with empty collections a method must be to scale with collection size. */
+	static final double SCALING_FACTOR = 4;
+
+	/** The time below which differences are considered timer noise, in nanoseconds. */
+	private static final double NOISE_NANOS = 10;
+
+	/** Keeps the JIT from eliminating the measured invocations. */
+	private static volatile int sink;
+
+	private final BeanInformation beanInformation;
+
+	private final FactoryLookupStrategy factoryLookupStrategy;
+
+	MethodCostProfiler(BeanInformation beanInformation, FactoryLookupStrategy factoryLookupStrategy) {
+		this.beanInformation = beanInformation;
+		this.factoryLookupStrategy = factoryLookupStrategy;
+	}
+
+	MethodCost profileHashCode() {
+		return profile("hashCode", (x, y) -> x.hashCode());
+	}
+
+	MethodCost profileEquals() {
+		return profile("equals", (x, y) -> x.equals(y) ? 1 : 0);
+	}
+
+	private MethodCost profile(String methodName, ToIntBiFunction<Object, Object> operation) {
+		EquivalentFactory<?> factory = new EquivalentPopulatedBeanFactory(beanInformation, factoryLookupStrategy);
+		Object x = factory.create();
+		Object y = factory.create();
+		warmUp(operation, x, y);
+		double bestNanos = Double.MAX_VALUE;
+		double bestBytes = -1;
+		for (int round = 0; round < ROUNDS; round++) {
+			long allocatedBefore = AllocationCounter.allocatedBytes();
+			double nanos = time(operation, x, y);
+			long allocatedAfter = AllocationCounter.allocatedBytes();
+			if (nanos < bestNanos) {
+				bestNanos = nanos;
+				bestBytes = allocatedBefore < 0 || allocatedAfter < 0 ? -1
+						: (double) (allocatedAfter - allocatedBefore) / MEASURED_OPERATIONS;
+			}
+		}
+		return new MethodCost(beanInformation.getBeanClass(), methodName, bestNanos, bestBytes,
+				isScalingWithCollectionSize(operation, factory, findCollectionProperties(x)));
+	}
+
+	/**
+	 * Time the operation on beans with empty collections and on beans with large collections, alternating between
+	 * the two so that both are measured in the same state of the JIT, and compare the fastest times.
+	 */
+	private boolean isScalingWithCollectionSize(ToIntBiFunction<Object, Object> operation,
+			EquivalentFactory<?> factory, List<PropertyInformation> collectionProperties) {
+		if (collectionProperties.isEmpty()) {
+			return false;
+		}
+		Object emptyX = factory.create();
+		Object emptyY = factory.create();
+		Object largeX = factory.create();
+		Object largeY = factory.create();
+		if (!setCollectionSize(emptyX, emptyY, collectionProperties, 0)
+				|| !setCollectionSize(largeX, largeY, collectionProperties, LARGE_COLLECTION_SIZE)) {
+			return false;
+		}
+		warmUp(operation, emptyX, emptyY);
+		warmUp(operation, largeX, largeY);
+		double emptyNanos = Double.MAX_VALUE;
+		double largeNanos = Double.MAX_VALUE;
+		for (int round = 0; round < ROUNDS; round++) {
+			emptyNanos = Math.min(emptyNanos, time(operation, emptyX, emptyY));
+			largeNanos = Math.min(largeNanos, time(operation, largeX, largeY));
+		}
+		return largeNanos > SCALING_FACTOR * Math.max(emptyNanos, NOISE_NANOS);
+	}
+
+	private static void warmUp(ToIntBiFunction<Object, Object> operation, Object x, Object y) {
+		int result = 0;
+		for (int idx = 0; idx < WARMUP_OPERATIONS; idx++) {
+			result += operation.applyAsInt(x, y);
+		}
+		sink = result;
+	}
+
+	/**
+	 * @return The average time of one invocation over {@link #MEASURED_OPERATIONS} invocations, in nanoseconds.
+	 */
+	private static double time(ToIntBiFunction<Object, Object> operation, Object x, Object y) {
+		int result = 0;
+		long start = System.nanoTime();
+		for (int idx = 0; idx < MEASURED_OPERATIONS; idx++) {
+			result += operation.applyAsInt(x, y);
+		}
+		double nanos = (double) (System.nanoTime() - start) / MEASURED_OPERATIONS;
+		sink = result;
+		return nanos;
+	}
+
+	private List<PropertyInformation> findCollectionProperties(Object bean) {
+		List<PropertyInformation> collectionProperties = new ArrayList<>();
+		for (PropertyInformation property : beanInformation.getProperties()) {
+			if (property.isReadableWritable()) {
+				try {
+					Object value = property.getter().get(bean);
+					if (value instanceof Collection || value instanceof Map) {
+						collectionProperties.add(property);
+					}
+				} catch (ReflectiveOperationException e) {
+					// not profiled for scaling
+				}
+			}
+		}
+		return collectionProperties;
+	}
+
+	/**
+	 * Give the specified collection and map properties of both beans equal, but distinct, values with at least size
+	 * elements where the element factories allow.
+	 * 
+	 * @return <code>true</code> if the values were set; <code>false</code> if the values could not be created or set,
+	 *         for example because the property factory creates unmodifiable collections.
+	 */
+	private boolean setCollectionSize(Object x, Object y, List<PropertyInformation> properties, int size) {
+		try {
+			for (PropertyInformation property : properties) {
+				Factory<?> propertyFactory = factoryLookupStrategy.getFactory(beanInformation, property, null);
+				Object xValue = createValue(propertyFactory, size);
+				Object yValue = copyValue(propertyFactory, xValue);
+				property.setter().set(x, xValue);
+				property.setter().set(y, yValue);
+			}
+			return x.equals(y);
+		} catch (ReflectiveOperationException | RuntimeException e) {
+			return false;
+		}
+	}
+
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	private static Object createValue(Factory<?> propertyFactory, int size) {
+		Object value = propertyFactory.create();
+		if (value instanceof Collection) {
+			Collection collection = (Collection) value;
+			collection.clear();
+			for (int attempt = 0; collection.size() < size && attempt < size; attempt++) {
+				collection.addAll((Collection) propertyFactory.create());
+			}
+		} else if (value instanceof Map) {
+			Map map = (Map) value;
+			map.clear();
+			for (int attempt = 0; map.size() < size && attempt < size; attempt++) {
+				map.putAll((Map) propertyFactory.create());
+			}
+		}
+		return value;
+	}
+
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	private static Object copyValue(Factory<?> propertyFactory, Object value) {
+		Object copy = propertyFactory.create();
+		if (copy == value) {
+			return value;
+		}
+		if (copy instanceof Collection) {
+			((Collection) copy).clear();
+			((Collection) copy).addAll((Collection) value);
+		} else if (copy instanceof Map) {
+			((Map) copy).clear();
+			((Map) copy).putAll((Map) value);
+		}
+		return copy;
+	}
+
+	/**
+	 * Reads the bytes allocated by the current thread through <code>com.sun.management.ThreadMXBean</code>, which not
+	 * every JVM provides.
+	 */
+	private static final class AllocationCounter {
+
+		private static final Object threadBean = ManagementFactory.getThreadMXBean();
+
+		/** (long threadId)long, or null if allocation cannot be measured. */
+		private static final Method getThreadAllocatedBytes = findGetThreadAllocatedBytes();
+
+		static long allocatedBytes() {
+			if (getThreadAllocatedBytes == null) {
+				return -1;
+			}
+			try {
+				return (Long) getThreadAllocatedBytes.invoke(threadBean, Thread.currentThread().getId());
+			} catch (ReflectiveOperationException | RuntimeException e) {
+				return -1;
+			}
+		}
+
+		private static Method findGetThreadAllocatedBytes() {
+			try {
+				Class<?> type = Class.forName("com.sun.management.ThreadMXBean");
+				if (!type.isInstance(threadBean)
+						|| !(Boolean) type.getMethod("isThreadAllocatedMemoryEnabled").invoke(threadBean)) {
+					return null;
+				}
+				return type.getMethod("getThreadAllocatedBytes", long.class);
+			} catch (ReflectiveOperationException | RuntimeException | LinkageError e) {
+				return null;
+			}
+		}
+	}
+}
@@ -0,0 +1,100 @@
+/*-
+ * ​​​
+ * meanbean
+ * ⁣⁣⁣
+ * Copyright (C) 2010 - 2020 the original author or authors.
+ * ⁣⁣⁣
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ﻿﻿﻿﻿﻿
+ */
+
+package org.meanbean.test;
+
+import org.meanbean.util.ValidationHelper;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * Verifies multiple bean classes concurrently on a dedicated ForkJoinPool. Each bean class is verified in its own
+ * {@link BeanVerifier} context, so registered factories and settings are never shared between workers. Unlike
+ * {@link BeanVerifier#verifyBeans(Class...)}, verification does not stop at the first failing bean; all failures are
+ * aggregated into a single AssertionError.
+ */
+final class ParallelBeanVerification {
+
+	private final int parallelism;
+
+	ParallelBeanVerification(int parallelism) {
+		ValidationHelper.ensure(parallelism >= 1, "Parallelism must be at least 1.");
+		this.parallelism = parallelism;
+	}
+
+	void verify(Class<?>... beanClasses) {
+		ValidationHelper.ensureExists("beanClasses", "verify beans", beanClasses);
+		List<Throwable> failures = verifyAll(beanClasses);
+		if (!failures.isEmpty()) {
+			throw createReport(beanClasses.length, failures);
+		}
+	}
+
+	private List<Throwable> verifyAll(Class<?>[] beanClasses) {
+		ForkJoinPool pool = new ForkJoinPool(parallelism);
+		try {
+			List<ForkJoinTask<Throwable>> tasks = new ArrayList<>(beanClasses.length);
+			for (Class<?> beanClass : beanClasses) {
+				tasks.add(pool.submit(() -> verifyBean(beanClass)));
+			}
+
+			// collect in submission order so that the report is deterministic
+			List<Throwable> failures = new ArrayList<>();
+			for (ForkJoinTask<Throwable> task : tasks) {
+				Throwable failure = task.join();
+				if (failure != null) {
+					failures.add(failure);
+				}
+			}
+			return failures;
+		} finally {
+			pool.shutdown();
+		}
+	}
+
+	private static Throwable verifyBean(Class<?> beanClass) {
+		try {
+			BeanVerifier.verifyBean(beanClass);
+			return null;
+		} catch (AssertionError | RuntimeException e) {
+			return new AssertionError("Cannot verify bean type " + beanClass.getName(), e);
+		}
+	}
+
+	private static AssertionError createReport(int beanCount, List<Throwable> failures) {
+		StringBuilder message = new StringBuilder();
+		message.append("Cannot verify ").append(failures.size())
+				.append(" of ").append(beanCount).append(" bean types:");
+		for (Throwable failure : failures) {
+			message.append(System.lineSeparator())
+					.append(" - ").append(failure.getMessage())
+					.append(": ").append(failure.getCause());
+		}
+
+		AssertionError report = new AssertionError(message.toString(), failures.get(0));
+		failures.stream()
+				.skip(1)
+				.forEach(report::addSuppressed);
+		return report;
+	}
+}
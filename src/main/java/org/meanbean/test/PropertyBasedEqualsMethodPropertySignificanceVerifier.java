@@ -33,7 +33,11 @@ import org.meanbean.util.ValidationHelper;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Supplier;
 
 /**
  * <p>
@@ -249,12 +253,8 @@ class PropertyBasedEqualsMethodPropertySignificanceVerifier implements EqualsMet
             BeanTestException, AssertionError {
 		ValidationHelper.ensureExists("factory", "test equals", factory);
 		ValidationHelper.ensureExists("insignificantProperties", "test equals", insignificantProperties);
-		
-		List<String> insignificantPropertyNames = new ArrayList<>();
-		insignificantPropertyNames.addAll(Arrays.asList(insignificantProperties));
-		if (customConfiguration != null) {
-			insignificantPropertyNames.addAll(customConfiguration.getEqualsInsignificantProperties());
-		}
+		List<String> insignificantPropertyNames =
+		        getInsignificantPropertyNames(customConfiguration, insignificantProperties);
 
 		Object prototype = factory.create();
 		ValidationHelper.ensureExists("factory-created object", "test equals", prototype);
@@ -268,6 +268,96 @@ class PropertyBasedEqualsMethodPropertySignificanceVerifier implements EqualsMet
         }
     }
 
+	/**
+	 * <p>
+	 * Verify the equals logic as {@link #verifyEqualsMethod(EquivalentFactory, Configuration, String...)} does, the
+	 * specified number of times. <br>
+	 * </p>
+	 * 
+	 * <p>
+	 * The type is introspected, its properties filtered and the Factory of each property looked up once for all
+	 * iterations. Each iteration creates a single pair of logically equivalent objects and tests every property
+	 * against it, restoring the original value of a property once it has been tested. A new pair is only created if
+	 * restoring a property does not make the objects equal with the same property values again, for example because
+	 * its setter has side effects.
+	 * </p>
+	 * 
+	 * @see #verifyEqualsMethod(EquivalentFactory, Configuration, String...)
+	 */
+	@Override
+	public void verifyEqualsMethod(EquivalentFactory<?> factory, Configuration customConfiguration, int iterations,
+	        String... insignificantProperties) throws IllegalArgumentException, BeanInformationException,
+	        BeanTestException, AssertionError {
+		ValidationHelper.ensureExists("factory", "test equals", factory);
+		ValidationHelper.ensureExists("insignificantProperties", "test equals", insignificantProperties);
+		List<String> insignificantPropertyNames =
+		        getInsignificantPropertyNames(customConfiguration, insignificantProperties);
+
+		BeanInformation beanInformation = null;
+		Collection<PropertyInformation> properties = null;
+		Map<String, Factory<?>> propertyFactories = new HashMap<>();
+		for (int idx = 0; idx < iterations; idx++) {
+			Object originalObj = createObject(factory);
+			if (beanInformation == null) {
+				beanInformation = beanInformationFactory.create(originalObj.getClass());
+				ensureInsignificantPropertiesExist(beanInformation, insignificantPropertyNames);
+				properties = PropertyInformationFilter.filter(beanInformation.getProperties(), customConfiguration);
+			}
+			Object modifiedObj = createObject(factory);
+			ensureLogicallyEquivalent(originalObj, modifiedObj);
+			for (PropertyInformation property : properties) {
+				BeanInformation propertyBeanInformation = beanInformation;
+				verifyEqualsMethodForProperty(originalObj, modifiedObj, property,
+				        !insignificantPropertyNames.contains(property.getName()), true,
+				        () -> propertyFactories.computeIfAbsent(property.getName(), name -> factoryLookupStrategy
+				                .getFactory(propertyBeanInformation, property, customConfiguration)));
+				if (!originalObj.equals(modifiedObj) || !hasSamePropertyValues(originalObj, modifiedObj, properties)) {
+					// restoring the property did not restore the objects, so start over with a new pair
+					originalObj = createObject(factory);
+					modifiedObj = createObject(factory);
+					ensureLogicallyEquivalent(originalObj, modifiedObj);
+				}
+			}
+		}
+	}
+
+	private static Object createObject(EquivalentFactory<?> factory) throws IllegalArgumentException {
+		Object obj = factory.create();
+		ValidationHelper.ensureExists("factory-created object", "test equals", obj);
+		return obj;
+	}
+
+	/**
+	 * Whether every one of the specified properties has the same value on both objects. A setter with side effects on
+	 * an insignificant property leaves the objects equal, but their property values no longer match.
+	 */
+	private static boolean hasSamePropertyValues(Object originalObj, Object modifiedObj,
+	        Collection<PropertyInformation> properties) throws BeanTestException {
+		for (PropertyInformation property : properties) {
+			try {
+				if (!Objects.equals(property.getter().get(originalObj), property.getter().get(modifiedObj))) {
+					return false;
+				}
+			} catch (ReflectiveOperationException e) {
+				String message =
+				        "Failed to test property [" + property.getName() + "] due to Exception [" + e.getClass().getName()
+				                + "]: [" + e.getMessage() + "].";
+				throw new BeanTestException(message, e);
+			}
+		}
+		return true;
+	}
+
+	private static List<String> getInsignificantPropertyNames(Configuration customConfiguration,
+	        String... insignificantProperties) {
+		List<String> insignificantPropertyNames = new ArrayList<>();
+		insignificantPropertyNames.addAll(Arrays.asList(insignificantProperties));
+		if (customConfiguration != null) {
+			insignificantPropertyNames.addAll(customConfiguration.getEqualsInsignificantProperties());
+		}
+		return insignificantPropertyNames;
+	}
+
 	/**
 	 * Ensure that all of the specified insignificant properties exist on the specified bean. If an insignificant
 	 * property is specified that does not exist on the bean, an <code>IllegalArgumentException</code> is thrown.
@@ -354,30 +444,50 @@ class PropertyBasedEqualsMethodPropertySignificanceVerifier implements EqualsMet
 	protected void verifyEqualsMethodForProperty(BeanInformation beanInformation, EquivalentFactory<?> factory,
 	        Configuration configuration, PropertyInformation property, boolean significant)
 	        throws IllegalArgumentException, BeanInformationException, BeanTestException, AssertionError {
-		String propertyName = property.getName();
-		Object originalObj = factory.create();
-		Object modifiedObj = factory.create();
+		Object originalObj = createObject(factory);
+		Object modifiedObj = createObject(factory);
+		ensureLogicallyEquivalent(originalObj, modifiedObj);
+		verifyEqualsMethodForProperty(originalObj, modifiedObj, property, significant, false,
+		        () -> factoryLookupStrategy.getFactory(beanInformation, property, configuration));
+	}
+
+	private static void ensureLogicallyEquivalent(Object originalObj, Object modifiedObj)
+	        throws IllegalArgumentException {
 		if (!originalObj.equals(modifiedObj)) {
 			String message = "Cannot test equals if factory does not create logically equivalent objects.";
 			throw new IllegalArgumentException(message);
 		}
+	}
+
+	/**
+	 * Verify the equals logic against the specified pair of logically equivalent objects by changing the value of the
+	 * specified property of modifiedObj. If restore is <code>true</code>, the original value of the property is set
+	 * on modifiedObj again once the equality has been reassessed.
+	 */
+	private void verifyEqualsMethodForProperty(Object originalObj, Object modifiedObj, PropertyInformation property,
+	        boolean significant, boolean restore, Supplier<Factory<?>> propertyFactorySupplier)
+	        throws IllegalArgumentException, BeanTestException, AssertionError {
+		String propertyName = property.getName();
 		try {
-			Object xOriginalValue = property.getReadMethod().invoke(originalObj);
-			Object originalVal = property.getReadMethod().invoke(modifiedObj);
+			Object xOriginalValue = property.getter().get(originalObj);
+			Object originalVal = property.getter().get(modifiedObj);
 			ValidationHelper.ensureExists("factory-created object." + propertyName, "test equals", xOriginalValue);
 			ValidationHelper.ensureExists("factory-created object." + propertyName, "test equals", originalVal);
 			if (!originalVal.equals(xOriginalValue)) {
 				String message = "Cannot test equals if factory does not create objects with same property values.";
 				throw new IllegalArgumentException(message);
 			}
-			Factory<?> propertyFactory = factoryLookupStrategy.getFactory(beanInformation, property, configuration);
+			Factory<?> propertyFactory = propertyFactorySupplier.get();
 			Object newVal = propertyFactory.create();
-			property.getWriteMethod().invoke(modifiedObj, newVal);
+			property.setter().set(modifiedObj, newVal);
 			if (significant) {
 				significantAsserter.assertConsistent(propertyName, originalObj, modifiedObj, originalVal, newVal);
 			} else {
 				insignificantAsserter.assertConsistent(propertyName, originalObj, modifiedObj, originalVal, newVal);
 			}
+			if (restore) {
+				property.setter().set(modifiedObj, originalVal);
+			}
 		} catch (Exception e) {
 			if (e instanceof IllegalArgumentException) {
 				throw (IllegalArgumentException) e; // re-throw without wrapping
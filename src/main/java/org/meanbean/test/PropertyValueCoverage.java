@@ -0,0 +1,118 @@
+/*-
+ * ​​​
+ * meanbean
+ * ⁣⁣⁣
+ * Copyright (C) 2010 - 2020 the original author or authors.
+ * ⁣⁣⁣
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ﻿﻿﻿﻿﻿
+ */
+
+package org.meanbean.test;
+
+import org.meanbean.bean.info.PropertyInformation;
+
+import java.lang.reflect.Type;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Tracks which values each property of a bean type has been tested with, so that adaptive testing can stop once
+ * nothing new can be learned. Boolean and enum properties are covered once tested with every value of their value
+ * space. Primitive, primitive wrapper and String properties are covered once tested with
+ * {@value #DISTINCT_SAMPLES_PER_PROPERTY} distinct values: more random samples would not find a getter or setter bug
+ * that those missed. A bean type with any other property is never covered and is tested the full number of
+ * iterations.
+ */
+final class PropertyValueCoverage {
+
+	/** The number of distinct values a property of a type with a large value space is tested with. */
+	static final int DISTINCT_SAMPLES_PER_PROPERTY = 10;
+
+	/** Types with a value space too large to cover, that are sampled instead. */
+	private static final Set<Class<?>> SAMPLED_TYPES = new HashSet<>(Arrays.asList(
+			byte.class, Byte.class, short.class, Short.class, int.class, Integer.class, long.class, Long.class,
+			float.class, Float.class, double.class, Double.class, char.class, Character.class, String.class));
+
+	/** The values each property has been tested with, keyed by property. */
+	private final Map<PropertyInformation, Set<Object>> testedValues = new HashMap<>();
+
+	/** The number of distinct values each property must be tested with, keyed by property. */
+	private final Map<PropertyInformation, Integer> requiredValueCounts = new HashMap<>();
+
+	/** Whether a property whose values can neither be covered nor sampled is being tested. */
+	private final boolean unbounded;
+
+	/** The number of properties that have not been tested with enough distinct values yet. */
+	private int uncoveredProperties;
+
+	PropertyValueCoverage(List<PropertyInformation> properties) {
+		boolean unbounded = false;
+		for (PropertyInformation property : properties) {
+			int requiredValueCount = requiredValueCount(property.getWriteMethodParameterType());
+			if (requiredValueCount < 0) {
+				unbounded = true;
+				break;
+			}
+			requiredValueCounts.put(property, requiredValueCount);
+			testedValues.put(property, new HashSet<>());
+			if (requiredValueCount > 0) {
+				uncoveredProperties++;
+			}
+		}
+		this.unbounded = unbounded;
+	}
+
+	/**
+	 * Record that the specified property has been tested with the specified value.
+	 */
+	void record(PropertyInformation property, Object value) {
+		if (unbounded || value == null) {
+			return;
+		}
+		Set<Object> values = testedValues.get(property);
+		int requiredValueCount = requiredValueCounts.get(property);
+		if (values.size() < requiredValueCount && values.add(value) && values.size() == requiredValueCount) {
+			uncoveredProperties--;
+		}
+	}
+
+	/**
+	 * @return <code>true</code> if every property has been tested with every value of its value space, or with enough
+	 *         distinct values; <code>false</code> otherwise.
+	 */
+	boolean isCovered() {
+		return !unbounded && uncoveredProperties == 0;
+	}
+
+	/**
+	 * @return The number of distinct values a property of the specified type must be tested with, or -1 if its values
+	 *         can neither be covered nor sampled.
+	 */
+	private static int requiredValueCount(Type type) {
+		if (type == boolean.class || type == Boolean.class) {
+			return 2;
+		}
+		if (type instanceof Class && ((Class<?>) type).isEnum()) {
+			return ((Class<?>) type).getEnumConstants().length;
+		}
+		if (SAMPLED_TYPES.contains(type)) {
+			return DISTINCT_SAMPLES_PER_PROPERTY;
+		}
+		return -1;
+	}
+}
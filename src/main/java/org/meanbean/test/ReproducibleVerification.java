@@ -0,0 +1,56 @@
+/*-
+ * ​​​
+ * meanbean
+ * ⁣⁣⁣
+ * Copyright (C) 2010 - 2020 the original author or authors.
+ * ⁣⁣⁣
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ﻿﻿﻿﻿﻿
+ */
+
+package org.meanbean.test;
+
+import org.meanbean.logging.$Logger;
+import org.meanbean.logging.$LoggerFactory;
+import org.meanbean.util.RandomValueGenerator;
+import org.meanbean.util.SeededRandomValueGenerator;
+
+/**
+ * Runs the verifications of the public testers so that they can be reproduced from a seed. Before a verification of a
+ * bean class, a {@link SeededRandomValueGenerator} is reset for that bean class, so the values it generates do not
+ * depend on what was verified before. Should the verification fail, the seed is logged.
+ */
+final class ReproducibleVerification {
+
+	private static final $Logger logger = $LoggerFactory.getLogger(ReproducibleVerification.class);
+
+	private ReproducibleVerification() {
+	}
+
+	static void run(RandomValueGenerator randomValueGenerator, Class<?> beanClass, Runnable verification) {
+		if (!(randomValueGenerator instanceof SeededRandomValueGenerator)) {
+			verification.run();
+			return;
+		}
+		SeededRandomValueGenerator seededRandomValueGenerator = (SeededRandomValueGenerator) randomValueGenerator;
+		seededRandomValueGenerator.reset(beanClass);
+		try {
+			verification.run();
+		} catch (AssertionError | RuntimeException e) {
+			long seed = seededRandomValueGenerator.getSeed();
+			logger.warn("Verification of bean '{}' failed with random seed {}. Set system property {}={} to reproduce.",
+					beanClass.getName(), seed, SeededRandomValueGenerator.SEED_PROPERTY, seed);
+			throw e;
+		}
+	}
+}
@@ -23,6 +23,8 @@ package org.meanbean.test;
 import org.meanbean.bean.info.BeanInformationFactory;
 import org.meanbean.factories.equivalent.EquivalentPopulatedBeanFactory;
 import org.meanbean.factories.util.FactoryLookupStrategy;
+import org.meanbean.test.VerificationMetricsListener.Phase;
+import org.meanbean.util.RandomValueGenerator;
 import org.meanbean.util.ServiceFactory;
 import org.meanbean.util.ValidationHelper;
 
@@ -37,6 +39,9 @@ public class ToStringMethodTester {
 	/** Factory used to gather information about a given bean and store it in a BeanInformation object. */
 	private final BeanInformationFactory beanInformationFactory;
 
+	/** Random number generator used by factories to randomly generate values. */
+	private final RandomValueGenerator randomValueGenerator;
+
 	static ToStringMethodTester createWithInheritedContext() {
 		return new ToStringMethodTester(ServiceFactory::createContextIfNeeded);
 	}
@@ -51,6 +56,7 @@ public class ToStringMethodTester {
 	private ToStringMethodTester(Consumer<ToStringMethodTester> serviceCreator) {
 		serviceCreator.accept(this);
 		beanInformationFactory = BeanInformationFactory.getInstance();
+		randomValueGenerator = RandomValueGenerator.getInstance();
 	}
 
 	/**
@@ -58,6 +64,16 @@ public class ToStringMethodTester {
 	 */
 	public void testToStringMethod(Class<?> clazz) {
 		ValidationHelper.ensureExists("clazz", "test hash code method", clazz);
+		VerificationMetrics metrics = VerificationMetrics.current();
+		long start = metrics.start();
+		try {
+			ReproducibleVerification.run(randomValueGenerator, clazz, () -> testToStringMethodOf(clazz));
+		} finally {
+			metrics.phaseCompleted(clazz, Phase.TO_STRING, start);
+		}
+	}
+
+	private void testToStringMethodOf(Class<?> clazz) {
 		FactoryLookupStrategy factoryLookupStrategy = FactoryLookupStrategy.getInstance();
 		EquivalentPopulatedBeanFactory factory = new EquivalentPopulatedBeanFactory(beanInformationFactory.create(clazz),
 				factoryLookupStrategy);
@@ -0,0 +1,79 @@
+/*-
+ * ​​​
+ * meanbean
+ * ⁣⁣⁣
+ * Copyright (C) 2010 - 2020 the original author or authors.
+ * ⁣⁣⁣
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ﻿﻿﻿﻿﻿
+ */
+
+package org.meanbean.test;
+
+import org.meanbean.test.VerificationMetricsListener.Phase;
+
+import java.util.List;
+
+/**
+ * Times verification phases for the registered {@link VerificationMetricsListener}s. Obtained once per tested bean
+ * class; when no listener is registered, {@link #start()} does not read the clock and nothing is reported.
+ */
+final class VerificationMetrics {
+
+	private final List<VerificationMetricsListener> listeners;
+
+	private final boolean enabled;
+
+	private VerificationMetrics(List<VerificationMetricsListener> listeners) {
+		this.listeners = listeners;
+		this.enabled = !listeners.isEmpty();
+	}
+
+	/**
+	 * @return The metrics of the current verification context.
+	 */
+	static VerificationMetrics current() {
+		return new VerificationMetrics(VerificationMetricsListener.getInstances());
+	}
+
+	/**
+	 * @return The start time of a timed section, to be passed back when it completes.
+	 */
+	long start() {
+		return enabled ? System.nanoTime() : 0L;
+	}
+
+	void phaseCompleted(Class<?> beanClass, Phase phase, long start) {
+		if (enabled) {
+			long nanos = System.nanoTime() - start;
+			for (VerificationMetricsListener listener : listeners) {
+				listener.phaseCompleted(beanClass, phase, nanos);
+			}
+		}
+	}
+
+	void methodProfiled(MethodCost cost) {
+		for (VerificationMetricsListener listener : listeners) {
+			listener.methodProfiled(cost);
+		}
+	}
+
+	void propertyTested(Class<?> beanClass, String propertyName, long start) {
+		if (enabled) {
+			long nanos = System.nanoTime() - start;
+			for (VerificationMetricsListener listener : listeners) {
+				listener.propertyTested(beanClass, propertyName, nanos);
+			}
+		}
+	}
+}
@@ -0,0 +1,106 @@
+/*-
+ * ​​​
+ * meanbean
+ * ⁣⁣⁣
+ * Copyright (C) 2010 - 2020 the original author or authors.
+ * ⁣⁣⁣
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ﻿﻿﻿﻿﻿
+ */
+
+package org.meanbean.test;
+
+import org.meanbean.util.ServiceDefinition;
+
+import java.util.List;
+
+/**
+ * Receives timings of bean verification, to show where verification time goes. <br>
+ * 
+ * Listeners are services: register an implementation with a public no-arg constructor, for example by annotating it
+ * with <code>@MetaInfServices</code>, and it is instantiated once per verification context. Each callback reports one
+ * occurrence, so counts are the number of calls. When no listener is registered, no timings are taken at all. <br>
+ * 
+ * Listeners may be called from several threads at once when beans are verified in parallel.
+ */
+public interface VerificationMetricsListener {
+
+	/**
+	 * The timed phases of bean verification.
+	 */
+	enum Phase {
+
+		/** All iterations of {@link BeanTester#testBean(Class)} for one bean class. */
+		GETTERS_AND_SETTERS,
+
+		/** Instantiation of one bean by {@link BeanTester}, reported within {@link #GETTERS_AND_SETTERS}. */
+		BEAN_CREATION,
+
+		/** {@link EqualsMethodTester#testEqualsMethod(Class, String...)} for one bean class. */
+		EQUALS,
+
+		/** {@link HashCodeMethodTester#testHashCodeMethod(Class)} for one bean class. */
+		HASH_CODE,
+
+		/** {@link ToStringMethodTester#testToStringMethod(Class)} for one bean class. */
+		TO_STRING
+	}
+
+	/**
+	 * Called when a phase of the verification of a bean class completes, whether or not the bean class passed.
+	 * 
+	 * @param beanClass
+	 *            The bean class being verified.
+	 * @param phase
+	 *            The phase that completed.
+	 * @param nanos
+	 *            How long the phase took, in nanoseconds.
+	 */
+	void phaseCompleted(Class<?> beanClass, Phase phase, long nanos);
+
+	/**
+	 * Called when one iteration of testing the getter and setter of a property completes, whether or not the
+	 * property passed.
+	 * 
+	 * @param beanClass
+	 *            The bean class being verified.
+	 * @param propertyName
+	 *            The name of the tested property.
+	 * @param nanos
+	 *            How long creating the test value, setting it, getting it and checking for side effects took, in
+	 *            nanoseconds.
+	 */
+	default void propertyTested(Class<?> beanClass, String propertyName, long nanos) {
+	}
+
+	/**
+	 * Called when the cost of the equals or hashCode method of a bean class has been profiled.
+	 * 
+	 * @param cost
+	 *            The measured cost.
+	 * 
+	 * @see HashCodeMethodTester#profileHashCodeMethod(Class)
+	 * @see EqualsMethodTester#profileEqualsMethod(Class)
+	 */
+	default void methodProfiled(MethodCost cost) {
+	}
+
+	public static ServiceDefinition<VerificationMetricsListener> getServiceDefinition() {
+		return new ServiceDefinition<>(VerificationMetricsListener.class).optional();
+	}
+
+	public static List<VerificationMetricsListener> getInstances() {
+		return getServiceDefinition().getServiceFactory()
+				.getAll();
+	}
+}
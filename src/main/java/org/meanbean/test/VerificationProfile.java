@@ -0,0 +1,98 @@
+/*-
+ * ​​​
+ * meanbean
+ * ⁣⁣⁣
+ * Copyright (C) 2010 - 2020 the original author or authors.
+ * ⁣⁣⁣
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ﻿﻿﻿﻿﻿
+ */
+
+package org.meanbean.test;
+
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * Predefined testing budgets that trade runtime against rigor. A profile sets the number of times a type is tested and
+ * the number of times equals and hashCode are invoked on the same objects to check that they are consistent. <br>
+ * 
+ * The default profile of every tester is chosen per execution with the {@value #PROFILE_PROPERTY} system property, for
+ * example <code>-Dmeanbean.profile=fast</code> for pre-commit runs and <code>-Dmeanbean.profile=thorough</code> for
+ * nightly runs. Without it, {@link #STANDARD} is used. A profile can also be applied in code:
+ * 
+ * <pre>
+ * BeanVerifier.forClass(Company.class)
+ *     .withSettings(settings -&gt; settings.setProfile(VerificationProfile.THOROUGH))
+ *     .verify();
+ * </pre>
+ */
+public enum VerificationProfile {
+
+	/** Few iterations and consistency checks, for quick feedback. */
+	FAST(10, 10),
+
+	/** The default budgets. */
+	STANDARD(BeanTester.TEST_ITERATIONS_PER_BEAN, Configuration.CONSISTENCY_CHECKS_PER_BEAN),
+
+	/** Many iterations and consistency checks, for runs where time matters less than rigor. */
+	THOROUGH(1000, 1000);
+
+	/** System property naming the default profile, case insensitively. */
+	public static final String PROFILE_PROPERTY = "meanbean.profile";
+
+	private final int iterations;
+
+	private final int consistencyChecks;
+
+	private VerificationProfile(int iterations, int consistencyChecks) {
+		this.iterations = iterations;
+		this.consistencyChecks = consistencyChecks;
+	}
+
+	/**
+	 * @return The number of times a type is tested.
+	 */
+	public int getIterations() {
+		return iterations;
+	}
+
+	/**
+	 * @return The number of times equals and hashCode are invoked on the same objects to check that they are
+	 *         consistent.
+	 */
+	public int getConsistencyChecks() {
+		return consistencyChecks;
+	}
+
+	/**
+	 * Get the profile named by the {@value #PROFILE_PROPERTY} system property.
+	 * 
+	 * @return The named profile, or {@link #STANDARD} if the system property is not set.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the system property does not name a profile.
+	 */
+	public static VerificationProfile getDefault() throws IllegalArgumentException {
+		String name = System.getProperty(PROFILE_PROPERTY);
+		if (name == null || name.trim().isEmpty()) {
+			return STANDARD;
+		}
+		try {
+			return valueOf(name.trim().toUpperCase(Locale.ROOT));
+		} catch (IllegalArgumentException e) {
+			throw new IllegalArgumentException("System property " + PROFILE_PROPERTY + " must be one of "
+					+ Arrays.toString(values()) + " but was [" + name + "].", e);
+		}
+	}
+}
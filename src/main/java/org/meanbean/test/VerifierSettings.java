@@ -47,6 +47,62 @@ public interface VerifierSettings {
 	 */
 	VerifierSettings setDefaultIterations(int iterations);
 
+	boolean isDefaultAdaptiveIterations();
+
+	/**
+	 * Set whether testing a type may stop before the number of iterations by default, once each of its properties has
+	 * been tested with enough values
+	 * 
+	 * @see Configuration#getAdaptiveIterations()
+	 */
+	VerifierSettings setDefaultAdaptiveIterations(boolean adaptiveIterations);
+
+	int getDefaultConsistencyChecks();
+
+	/**
+	 * Set the number of times equals and hashCode are invoked on the same objects by default to check that they are
+	 * consistent
+	 * 
+	 * @see Configuration#getConsistencyChecks()
+	 */
+	VerifierSettings setDefaultConsistencyChecks(int consistencyChecks);
+
+	/**
+	 * Set the number of times a type should be tested and the number of consistency checks by default to those of the
+	 * specified profile. Without this setting, the profile named by the {@value VerificationProfile#PROFILE_PROPERTY}
+	 * system property is used.
+	 * 
+	 * @see VerificationProfile
+	 */
+	VerifierSettings setProfile(VerificationProfile profile);
+
+	int getHashCodeDistributionSampleSize();
+
+	/**
+	 * Set the number of objects created to test the hash code distribution of the bean
+	 */
+	VerifierSettings setHashCodeDistributionSampleSize(int sampleSize);
+
+	double getHashCodeDistributionThreshold();
+
+	/**
+	 * Set the lowest acceptable hash code distribution quality, between 0 and 1. The hash code distribution of the
+	 * bean is only verified, along with equals and hashCode, if the threshold is above 0, which it is not by default.
+	 * 
+	 * @see HashCodeMethodTester#testHashCodeDistribution(Class, int, double)
+	 */
+	VerifierSettings setHashCodeDistributionThreshold(double threshold);
+
+	boolean isMethodCostProfiling();
+
+	/**
+	 * Set whether the cost of the equals and hashCode methods of the bean is profiled and logged after they have been
+	 * verified, which it is not by default. Profiling never fails a verification.
+	 * 
+	 * @see MethodCost
+	 */
+	VerifierSettings setMethodCostProfiling(boolean methodCostProfiling);
+
     VerifierSettingsEditor suppressWarning(Warning warning);
 
     /**
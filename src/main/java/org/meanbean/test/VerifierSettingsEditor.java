@@ -46,6 +46,47 @@ public interface VerifierSettingsEditor extends VerifierSettings {
 	@Override
 	VerifierSettingsEditor setDefaultIterations(int iterations);
 
+	/**
+	 * Set whether testing a type may stop before the number of iterations by default, once each of its properties has
+	 * been set to every value of its value space
+	 */
+	@Override
+	VerifierSettingsEditor setDefaultAdaptiveIterations(boolean adaptiveIterations);
+
+	/**
+	 * Set the number of times equals and hashCode are invoked on the same objects by default to check that they are
+	 * consistent
+	 */
+	@Override
+	VerifierSettingsEditor setDefaultConsistencyChecks(int consistencyChecks);
+
+	/**
+	 * Set the number of times a type should be tested and the number of consistency checks by default to those of the
+	 * specified profile
+	 */
+	@Override
+	VerifierSettingsEditor setProfile(VerificationProfile profile);
+
+	/**
+	 * Set the number of objects created to test the hash code distribution of the bean
+	 */
+	@Override
+	VerifierSettingsEditor setHashCodeDistributionSampleSize(int sampleSize);
+
+	/**
+	 * Set the lowest acceptable hash code distribution quality, between 0 and 1. The hash code distribution of the
+	 * bean is only verified if the threshold is above 0
+	 */
+	@Override
+	VerifierSettingsEditor setHashCodeDistributionThreshold(double threshold);
+
+	/**
+	 * Set whether the cost of the equals and hashCode methods of the bean is profiled and logged after they have been
+	 * verified
+	 */
+	@Override
+	VerifierSettingsEditor setMethodCostProfiling(boolean methodCostProfiling);
+
 	/**
 	 * Mark the specified property as one to be disregarded/ignored during testing.
 	 */
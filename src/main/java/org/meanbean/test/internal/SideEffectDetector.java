@@ -3,11 +3,21 @@ package org.meanbean.test.internal;
 import org.meanbean.bean.info.PropertyInformation;
 
 import java.util.List;
+import java.util.Random;
 
 public interface SideEffectDetector {
 
     List<PropertyInformation> init(Object bean, List<PropertyInformation> readableWritableProperties);
 
+    /**
+     * Same as {@link #init(Object, List)}, using random to decide the order in which the properties are tested, if
+     * the order is changed at all.
+     */
+    default List<PropertyInformation> init(Object bean, List<PropertyInformation> readableWritableProperties,
+            Random random) {
+        return init(bean, readableWritableProperties);
+    }
+
     void beforeTestProperty(PropertyInformation property, EqualityTest equalityTest);
 
     void detectAfterTestProperty();
@@ -1,15 +1,22 @@
 package org.meanbean.test.internal;
 
-import org.meanbean.bean.info.PropertyInformation;
-
-import java.util.List;
+import org.meanbean.util.ServiceDefinition;
 
+/**
+ * Creates SideEffectDetector objects. SideEffectDetectors are stateful and needed once per bean test iteration, so the
+ * factory is loaded once as a service and used to create detectors cheaply.
+ */
 public interface SideEffectDetectorFactory {
 
-    List<PropertyInformation> init(Object bean, List<PropertyInformation> readableWritableProperties);
+    SideEffectDetector create();
 
-    void beforeTestProperty(PropertyInformation property, EqualityTest equalityTest);
+    public static ServiceDefinition<SideEffectDetectorFactory> getServiceDefinition() {
+        return new ServiceDefinition<>(SideEffectDetectorFactory.class);
+    }
 
-    void detectAfterTestProperty();
+    public static SideEffectDetectorFactory getInstance() {
+        return getServiceDefinition().getServiceFactory()
+                .getFirst();
+    }
 
-}
\ No newline at end of file
+}
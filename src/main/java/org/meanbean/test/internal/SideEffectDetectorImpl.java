@@ -1,6 +1,6 @@
 package org.meanbean.test.internal;
 
-import org.kohsuke.MetaInfServices;
+import org.meanbean.bean.info.PropertyGetter;
 import org.meanbean.bean.info.PropertyInformation;
 import org.meanbean.logging.$Logger;
 import org.meanbean.logging.$LoggerFactory;
@@ -8,37 +8,58 @@ import org.meanbean.test.BeanTestException;
 import org.meanbean.util.AssertionUtils;
 
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Random;
 import java.util.TreeMap;
 
-@MetaInfServices
+/**
+ * Detects setters that change the value of other properties. Property values are snapshotted into arrays indexed like
+ * the properties, which are reused for every property tested on the bean. The values read after testing one property
+ * serve as the values before testing the next one, since nothing touches the bean in between.
+ */
 public class SideEffectDetectorImpl implements SideEffectDetector {
 
     private static final $Logger logger = $LoggerFactory.getLogger(SideEffectDetectorImpl.class);
     
     private Object bean;
-    private List<PropertyInformation> readableWritableProperties;
+    private PropertyInformation[] properties;
+    private PropertyGetter[] getters;
 
-    private Map<PropertyInformation, EqualityTest> equalityTestsByProperty = new HashMap<>();
-    private PropertyInformation propertyUnderTest;
-    private Map<String, Object> beforeValues;
+    private int propertyUnderTest;
+    private Object[] beforeValues;
+    private Object[] afterValues;
+    private boolean beforeValuesSaved;
 
     @Override
     public List<PropertyInformation> init(Object bean, List<PropertyInformation> readableWritableProperties) {
+        return init(bean, readableWritableProperties, new Random());
+    }
+
+    @Override
+    public List<PropertyInformation> init(Object bean, List<PropertyInformation> readableWritableProperties,
+            Random random) {
         this.bean = bean;
-        this.readableWritableProperties = readableWritableProperties;
 
-        Collections.shuffle(readableWritableProperties); // shuffle to detect ordering side-effects
+        Collections.shuffle(readableWritableProperties, random); // shuffle to detect ordering side-effects
+        properties = readableWritableProperties.toArray(new PropertyInformation[0]);
+        getters = new PropertyGetter[properties.length];
+        for (int idx = 0; idx < properties.length; idx++) {
+            getters[idx] = properties[idx].getter();
+        }
+        beforeValues = new Object[properties.length];
+        afterValues = new Object[properties.length];
+        beforeValuesSaved = false;
         return readableWritableProperties;
     }
 
     @Override
     public void beforeTestProperty(PropertyInformation property, EqualityTest equalityTest) {
-        propertyUnderTest = property;
-        equalityTestsByProperty.put(property, equalityTest);
-        beforeValues = saveValues();
+        propertyUnderTest = indexOf(property);
+        if (!beforeValuesSaved) {
+            saveValues(beforeValues);
+            beforeValuesSaved = true;
+        }
     }
 
     /**
@@ -46,45 +67,60 @@ public class SideEffectDetectorImpl implements SideEffectDetector {
      */
     @Override
     public void detectAfterTestProperty() {
-        Map<String, Object> afterValues = saveValues();
-
-        // ignore value set by the property just tested.
-        beforeValues.remove(propertyUnderTest.getName());
-        afterValues.remove(propertyUnderTest.getName());
+        saveValues(afterValues);
 
-        for (Map.Entry<String, Object> beforeEntry : beforeValues.entrySet()) {
-            String otherProperty = beforeEntry.getKey();
-
-            Object beforeValue = beforeEntry.getValue();
-            Object afterValue = afterValues.get(otherProperty);
+        for (int idx = 0; idx < properties.length; idx++) {
+            // ignore value set by the property just tested.
+            if (idx == propertyUnderTest) {
+                continue;
+            }
 
-            EqualityTest equalityTest = equalityTestsByProperty.getOrDefault(otherProperty, EqualityTest.LOGICAL);
-            if (beforeValue != null && !equalityTest.test(beforeValue, afterValue)) {
+            Object beforeValue = beforeValues[idx];
+            Object afterValue = afterValues[idx];
+            if (beforeValue != null && !EqualityTest.LOGICAL.test(beforeValue, afterValue)) {
                 if (logger.isDebugEnabled()) {
-                    logger.debug("Side-effect detected.\nBefore={}\nAfter={}", beforeValues, afterValues);
+                    logger.debug("Side-effect detected.\nBefore={}\nAfter={}", toMap(beforeValues), toMap(afterValues));
                 }
                 String message = String
                         .format("Property [%s] appears to have a side-effect on another property [%s]",
-                        propertyUnderTest.getName(), otherProperty);
+                        properties[propertyUnderTest].getName(), properties[idx].getName());
                 AssertionUtils.fail(message);
             }
         }
+
+        // the values after testing this property are the values before testing the next one
+        Object[] values = beforeValues;
+        beforeValues = afterValues;
+        afterValues = values;
     }
 
-    private Map<String, Object> saveValues() {
+    private int indexOf(PropertyInformation property) {
+        for (int idx = 0; idx < properties.length; idx++) {
+            if (properties[idx] == property) {
+                return idx;
+            }
+        }
+        throw new IllegalArgumentException("Unknown property [" + property.getName() + "]");
+    }
 
-        Map<String, Object> values = new TreeMap<>();
-        for (PropertyInformation property : readableWritableProperties) {
+    private void saveValues(Object[] values) {
+        for (int idx = 0; idx < properties.length; idx++) {
             try {
-                Object value = property.getReadMethod().invoke(bean);
-                values.put(property.getName(), value);
+                values[idx] = getters[idx].get(bean);
             } catch (Exception e) {
-                String propertyName = property.getName();
+                String propertyName = properties[idx].getName();
                 String message = "Failed to test property [" + propertyName + "] due to Exception [" + e.getClass().getName()
                         + "]: [" + e.getMessage() + "].";
                 throw new BeanTestException(message, e);
             }
         }
-        return values;
     }
-}
\ No newline at end of file
+
+    private Map<String, Object> toMap(Object[] values) {
+        Map<String, Object> map = new TreeMap<>();
+        for (int idx = 0; idx < properties.length; idx++) {
+            map.put(properties[idx].getName(), values[idx]);
+        }
+        return map;
+    }
+}
@@ -0,0 +1,13 @@
+package org.meanbean.test.internal;
+
+import org.kohsuke.MetaInfServices;
+
+@MetaInfServices
+public class SideEffectDetectorImplFactory implements SideEffectDetectorFactory {
+
+    @Override
+    public SideEffectDetector create() {
+        return new SideEffectDetectorImpl();
+    }
+
+}
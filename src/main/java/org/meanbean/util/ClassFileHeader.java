@@ -0,0 +1,124 @@
+/*-
+ * ​​​
+ * meanbean
+ * ⁣⁣⁣
+ * Copyright (C) 2010 - 2020 the original author or authors.
+ * ⁣⁣⁣
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ﻿﻿﻿﻿﻿
+ */
+
+package org.meanbean.util;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Modifier;
+
+/**
+ * Reads the access flags of a class straight from its class file, so that classes can be filtered without being
+ * loaded. Only the header of the class file is read: the magic number, the version and the constant pool, which must
+ * be skipped to reach the access flags.
+ */
+final class ClassFileHeader {
+
+	private static final int MAGIC = 0xCAFEBABE;
+
+	private static final int ACC_INTERFACE = 0x0200;
+
+	private static final int ACC_ABSTRACT = 0x0400;
+
+	private final int accessFlags;
+
+	private ClassFileHeader(int accessFlags) {
+		this.accessFlags = accessFlags;
+	}
+
+	/**
+	 * Read the header of the class file in the specified stream. The stream is not closed.
+	 * 
+	 * @param classFile
+	 *            The class file to read, positioned at its start.
+	 * 
+	 * @return The header of the class file.
+	 * 
+	 * @throws IOException
+	 *             If the stream cannot be read or does not hold a class file.
+	 */
+	static ClassFileHeader read(InputStream classFile) throws IOException {
+		DataInputStream in = new DataInputStream(classFile);
+		if (in.readInt() != MAGIC) {
+			throw new IOException("Not a class file");
+		}
+		in.readUnsignedShort(); // minor_version
+		in.readUnsignedShort(); // major_version
+		int constantPoolCount = in.readUnsignedShort();
+		for (int index = 1; index < constantPoolCount; index++) {
+			int tag = in.readUnsignedByte();
+			switch (tag) {
+			case 1: // Utf8
+				skip(in, in.readUnsignedShort());
+				break;
+			case 7: // Class
+			case 8: // String
+			case 16: // MethodType
+			case 19: // Module
+			case 20: // Package
+				skip(in, 2);
+				break;
+			case 15: // MethodHandle
+				skip(in, 3);
+				break;
+			case 3: // Integer
+			case 4: // Float
+			case 9: // Fieldref
+			case 10: // Methodref
+			case 11: // InterfaceMethodref
+			case 12: // NameAndType
+			case 17: // Dynamic
+			case 18: // InvokeDynamic
+				skip(in, 4);
+				break;
+			case 5: // Long
+			case 6: // Double
+				skip(in, 8);
+				index++; // takes two constant pool entries
+				break;
+			default:
+				throw new IOException("Unknown constant pool tag " + tag);
+			}
+		}
+		return new ClassFileHeader(in.readUnsignedShort());
+	}
+
+	private static void skip(DataInputStream in, int length) throws IOException {
+		int remaining = length;
+		while (remaining > 0) {
+			int skipped = in.skipBytes(remaining);
+			if (skipped == 0) {
+				in.readByte(); // throws EOFException at the end of the stream
+				skipped = 1;
+			}
+			remaining -= skipped;
+		}
+	}
+
+	/**
+	 * Whether the class can be instantiated, that is whether it is neither an interface nor abstract. For a top level
+	 * class, this is the same as testing the modifiers of the loaded class with {@link Modifier#isInterface(int)} and
+	 * {@link Modifier#isAbstract(int)}.
+	 */
+	boolean isConcrete() {
+		return (accessFlags & (ACC_INTERFACE | ACC_ABSTRACT)) == 0;
+	}
+}
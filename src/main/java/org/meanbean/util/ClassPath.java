@@ -16,6 +16,7 @@ package org.meanbean.util;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.InterruptedIOException;
 import java.io.UncheckedIOException;
 import java.net.MalformedURLException;
 import java.net.URISyntaxException;
@@ -23,8 +24,10 @@ import java.net.URL;
 import java.net.URLClassLoader;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Enumeration;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
@@ -33,6 +36,12 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.NoSuchElementException;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
 import java.util.function.IntPredicate;
 import java.util.function.Predicate;
 import java.util.jar.Attributes;
@@ -43,6 +52,8 @@ import java.util.logging.Logger;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import org.meanbean.util.ClassPathIndex.JarListing;
+
 import static java.util.logging.Level.WARNING;
 
 /**
@@ -100,18 +111,81 @@ public final class ClassPath {
 		return new ClassPath(scanner.getResources());
 	}
 
+	/**
+	 * Returns a {@code ClassPath} representing all classes and resources loadable from {@code
+	 * classloader} and its ancestor class loaders, as {@link #from(ClassLoader)} does, listing up to
+	 * {@code parallelism} directories and jar files concurrently. The result is the same for any
+	 * parallelism.
+	 *
+	 * @throws IllegalArgumentException if {@code parallelism} is not positive.
+	 * @throws IOException if the attempt to read class path resources (jar files or directories)
+	 *     failed.
+	 */
+	public static ClassPath from(ClassLoader classloader, int parallelism) throws IOException {
+		DefaultScanner scanner = new DefaultScanner("", parallelism);
+		scanner.scan(classloader);
+		return new ClassPath(scanner.getResources());
+	}
+
+	/**
+	 * Returns a {@code ClassPath} representing the classes and resources in {@code packageName} and
+	 * its subpackages that are loadable from {@code classloader} and its ancestor class loaders.
+	 *
+	 * <p>Only the class path roots that {@code classloader} reports as containing the package
+	 * directory are scanned in full. The other jar files are only searched for resource names in
+	 * the package, so that jar files built without directory entries are not missed; their listings
+	 * are taken from the class path index when one is configured. If no root reports the package
+	 * directory, every root is scanned.
+	 *
+	 * @throws IOException if the attempt to read class path resources (jar files or directories)
+	 *     failed.
+	 */
+	public static ClassPath from(ClassLoader classloader, String packageName) throws IOException {
+		return from(classloader, packageName, 1);
+	}
+
+	/**
+	 * Returns a {@code ClassPath} representing the classes and resources in {@code packageName} and
+	 * its subpackages, as {@link #from(ClassLoader, String)} does, listing up to {@code
+	 * parallelism} directories and jar files concurrently. The result is the same for any
+	 * parallelism.
+	 *
+	 * @throws IllegalArgumentException if {@code parallelism} is not positive.
+	 * @throws IOException if the attempt to read class path resources (jar files or directories)
+	 *     failed.
+	 */
+	public static ClassPath from(ClassLoader classloader, String packageName, int parallelism) throws IOException {
+		checkNotNull(packageName);
+		DefaultScanner scanner = new DefaultScanner(packageName, parallelism);
+		scanner.scanPackage(classloader);
+		return new ClassPath(scanner.getResources());
+	}
+
     public static ClassPath from(Class<?> clazz) {
         try {
-            ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
-            if (classLoader == null) {
-                classLoader = clazz.getClassLoader();
-            }
-            return ClassPath.from(classLoader);
+            return ClassPath.from(classLoaderFor(clazz));
         } catch (IOException e) {
             throw new UncheckedIOException(e);
         }
     }
 
+    public static ClassPath from(Class<?> clazz, String packageName) {
+        try {
+            return ClassPath.from(classLoaderFor(clazz), packageName);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /** Returns the class loader whose class path is scanned on behalf of {@code clazz}. */
+    static ClassLoader classLoaderFor(Class<?> clazz) {
+        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        if (classLoader == null) {
+            classLoader = clazz.getClassLoader();
+        }
+        return classLoader;
+    }
+
 	/**
 	 * Returns all resources loadable from the current class path, including the class files of all
 	 * loadable classes but excluding the "META-INF/MANIFEST.MF" file.
@@ -333,9 +407,13 @@ public final class ClassPath {
 	}
 
 	/**
-	 * Abstract class that scans through the class path represented by a {@link ClassLoader} and calls
-	 * {@link #scanDirectory} and {@link #scanJarFile} for directories and jar files on the class path
-	 * respectively.
+	 * Abstract class that scans through the class path represented by a {@link ClassLoader}, lists
+	 * the resources of each directory and jar file on the class path, and calls {@link
+	 * #scanResources} with them in class path order.
+	 *
+	 * <p>With a parallelism greater than one, the directories and jar files on the class path are
+	 * listed concurrently on a bounded pool; listings are still handed to {@link #scanResources} in
+	 * class path order, so the result does not depend on the parallelism.
 	 */
 	abstract static class Scanner {
 
@@ -343,60 +421,310 @@ public final class ClassPath {
 		// with.
 		private final Set<File> scannedUris = new HashSet<>();
 
+		// Package roots come from the class loader, which has already followed Class-Path manifests.
+		private boolean followManifestClassPath = true;
+
+		// Listings of jar files recorded by earlier scans, or null to always open jar files.
+		private final ClassPathIndex index;
+
+		// Maximum number of class path entries listed concurrently.
+		private final int parallelism;
+
+		// Lists class path entries ahead of time while scanning with a parallelism greater than one.
+		private ExecutorService executor;
+
+		// Listings being computed ahead of time, keyed by canonical file.
+		private final Map<File, Future<Listing>> prefetchedListings = new HashMap<>();
+
+		Scanner() {
+			this(ClassPathIndex.fromSystemProperty(), 1);
+		}
+
+		Scanner(ClassPathIndex index, int parallelism) {
+			if (parallelism < 1) {
+				throw new IllegalArgumentException("parallelism must be positive: " + parallelism);
+			}
+			this.index = index;
+			this.parallelism = parallelism;
+		}
+
 		public final void scan(ClassLoader classloader) throws IOException {
-			for (Entry<File, ClassLoader> entry : getClassPathEntries(classloader).entrySet()) {
-				scan(entry.getKey(), entry.getValue());
+			scanRoots(getClassPathEntries(classloader));
+		}
+
+		/**
+		 * Scans only the class path roots in which {@code classloader} finds the directory {@code
+		 * packagePath}, or every root if it finds none, and the jar files holding resources in {@code
+		 * packagePath} without a directory entry for it.
+		 */
+		final void scan(ClassLoader classloader, String packagePath) throws IOException {
+			Map<File, ClassLoader> roots = packagePath.isEmpty()
+					? Collections.emptyMap()
+					: getPackageRoots(classloader, packagePath);
+			if (roots.isEmpty()) {
+				scan(classloader);
+				return;
+			}
+			followManifestClassPath = false;
+			scanRoots(roots, classloader, packagePath);
+		}
+
+		private void scanRoots(Map<File, ClassLoader> roots) throws IOException {
+			scanRoots(roots, null, null);
+		}
+
+		/**
+		 * Scans the specified roots and, unless {@code packagePath} is null, the other jar files on
+		 * the class path of {@code classloader} that hold resources in it.
+		 */
+		private void scanRoots(Map<File, ClassLoader> roots, ClassLoader classloader, String packagePath)
+				throws IOException {
+			// the pool only starts threads for submitted listings, so it is bounded by the entry count too
+			executor = parallelism > 1 ? Executors.newFixedThreadPool(parallelism, daemonThreads()) : null;
+			try {
+				if (packagePath != null) {
+					roots = withJarsWithoutDirectoryEntries(classloader, packagePath, roots);
+				}
+				prefetch(roots.keySet());
+				for (Entry<File, ClassLoader> entry : roots.entrySet()) {
+					scan(entry.getKey(), entry.getValue());
+				}
+			} finally {
+				if (executor != null) {
+					executor.shutdownNow();
+					executor = null;
+				}
+				prefetchedListings.clear();
+			}
+			if (index != null) {
+				index.save();
+			}
+		}
+
+		/**
+		 * Returns the package roots followed by the other jar files on the class path of {@code
+		 * classloader} that hold resources in {@code packagePath}. Class loaders only report a jar
+		 * file as a package root if it has a directory entry for the package, which jar files built
+		 * by some tools, shaded jar files for example, lack.
+		 *
+		 * <p>The jar files are listed on the scanning pool, one level of Class-Path manifest entries
+		 * at a time, and the listings of the jar files to scan are kept so that they are not opened
+		 * again. With a class path index, unchanged jar files are not opened at all.
+		 */
+		private Map<File, ClassLoader> withJarsWithoutDirectoryEntries(ClassLoader classloader,
+				String packagePath, Map<File, ClassLoader> roots) throws IOException {
+			String packagePrefix = packagePath + "/";
+			Set<File> rootFiles = new HashSet<>();
+			for (File root : roots.keySet()) {
+				rootFiles.add(root.getCanonicalFile());
+			}
+			LinkedHashMap<File, ClassLoader> jars = new LinkedHashMap<>();
+			Set<File> probedFiles = new HashSet<>();
+			Map<File, ClassLoader> level = getClassPathEntries(classloader);
+			while (!level.isEmpty()) {
+				// class loaders always find the package directory in directories
+				LinkedHashMap<File, ClassLoader> levelJars = new LinkedHashMap<>();
+				for (Entry<File, ClassLoader> entry : level.entrySet()) {
+					File file = entry.getKey();
+					if (file.isFile() && probedFiles.add(file.getCanonicalFile())) {
+						levelJars.put(file, entry.getValue());
+					}
+				}
+				prefetch(levelJars.keySet());
+				LinkedHashMap<File, ClassLoader> nextLevel = new LinkedHashMap<>();
+				for (Entry<File, ClassLoader> entry : levelJars.entrySet()) {
+					File file = entry.getKey();
+					File canonicalFile = file.getCanonicalFile();
+					Listing listing = probe(file);
+					if (listing == null) {
+						continue;
+					}
+					for (File path : listing.classPath) {
+						nextLevel.putIfAbsent(path, entry.getValue());
+					}
+					if (rootFiles.contains(canonicalFile)) {
+						continue;
+					}
+					if (holdsPackage(listing.resourceNames, packagePrefix)) {
+						jars.put(file, entry.getValue());
+					} else {
+						prefetchedListings.remove(canonicalFile);
+					}
+				}
+				level = nextLevel;
+			}
+			if (jars.isEmpty()) {
+				return roots;
 			}
+			LinkedHashMap<File, ClassLoader> allRoots = new LinkedHashMap<>(roots);
+			allRoots.putAll(jars);
+			return Collections.unmodifiableMap(allRoots);
+		}
+
+		/**
+		 * Lists the specified jar file, waiting for its prefetched listing if any, and keeps the
+		 * listing for {@link #scan(File, ClassLoader)}.
+		 */
+		private Listing probe(File file) throws IOException {
+			File canonicalFile = file.getCanonicalFile();
+			Future<Listing> listing = prefetchedListings.get(canonicalFile);
+			if (listing == null) {
+				listing = CompletableFuture.completedFuture(list(file));
+				prefetchedListings.put(canonicalFile, listing);
+			}
+			return await(listing);
+		}
+
+		private static boolean holdsPackage(List<String> resourceNames, String packagePrefix) {
+			for (String resourceName : resourceNames) {
+				if (resourceName.startsWith(packagePrefix)) {
+					return true;
+				}
+			}
+			return false;
+		}
+
+		/** Starts listing the specified class path entries concurrently, if scanning in parallel. */
+		private void prefetch(Collection<File> files) throws IOException {
+			if (executor == null) {
+				return;
+			}
+			for (File file : files) {
+				File canonicalFile = file.getCanonicalFile();
+				if (!scannedUris.contains(canonicalFile) && !prefetchedListings.containsKey(canonicalFile)) {
+					prefetchedListings.put(canonicalFile, executor.submit(() -> list(file)));
+				}
+			}
+		}
+
+		private static ThreadFactory daemonThreads() {
+			return runnable -> {
+				Thread thread = new Thread(runnable, "meanbean-classpath-scanner");
+				thread.setDaemon(true);
+				return thread;
+			};
 		}
 
 		final void scan(File file, ClassLoader classloader) throws IOException {
-			if (scannedUris.add(file.getCanonicalFile())) {
-				scanFrom(file, classloader);
+			File canonicalFile = file.getCanonicalFile();
+			if (scannedUris.add(canonicalFile)) {
+				Future<Listing> prefetched = prefetchedListings.remove(canonicalFile);
+				Listing listing = prefetched != null ? await(prefetched) : list(file);
+				if (listing == null) {
+					return;
+				}
+				if (followManifestClassPath) {
+					prefetch(listing.classPath);
+					for (File path : listing.classPath) {
+						scan(path, classloader);
+					}
+				}
+				scanResources(classloader, listing.resourceNames);
 			}
 		}
 
-		/** Called when a directory is scanned for resource files. */
-		protected abstract void scanDirectory(ClassLoader loader, File directory) throws IOException;
+		private static Listing await(Future<Listing> listing) throws IOException {
+			try {
+				return listing.get();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new InterruptedIOException("Interrupted while scanning class path");
+			} catch (ExecutionException e) {
+				Throwable cause = e.getCause();
+				if (cause instanceof IOException) {
+					throw (IOException) cause;
+				}
+				if (cause instanceof RuntimeException) {
+					throw (RuntimeException) cause;
+				}
+				if (cause instanceof Error) {
+					throw (Error) cause;
+				}
+				throw new IOException(cause);
+			}
+		}
 
-		/** Called when a jar file is scanned for resource entries. */
-		protected abstract void scanJarFile(ClassLoader loader, JarFile file) throws IOException;
+		/**
+		 * Called for each directory on the class path. Returns the names of the resources to scan in
+		 * {@code directory}, relative to it. May be called concurrently for different directories.
+		 */
+		protected abstract List<String> listDirectory(File directory) throws IOException;
 
-		private void scanFrom(File file, ClassLoader classloader) throws IOException {
+		/**
+		 * Called with the names of the resources of each directory or jar file on the class path, in
+		 * class path order. Jar resources exclude directories and the manifest.
+		 */
+		protected abstract void scanResources(ClassLoader loader, List<String> resourceNames);
+
+		/** Lists the specified class path entry, or returns null if it cannot be scanned. */
+		private Listing list(File file) throws IOException {
 			try {
 				if (!file.exists()) {
-					return;
+					return null;
 				}
 			} catch (SecurityException e) {
 				logger.warning("Cannot access " + file + ": " + e);
 				// TODO(emcmanus): consider whether to log other failure cases too.
-				return;
+				return null;
 			}
 			if (file.isDirectory()) {
-				scanDirectory(classloader, file);
+				return new Listing(Collections.emptyList(), listDirectory(file));
 			} else {
-				scanJar(file, classloader);
+				return listJar(file);
 			}
 		}
 
-		private void scanJar(File file, ClassLoader classloader) throws IOException {
+		private Listing listJar(File file) throws IOException {
+			JarListing listing = index == null ? null : index.get(file);
+			if (listing != null) {
+				return new Listing(listing.getClassPath(), listing.getResourceNames());
+			}
 			JarFile jarFile;
 			try {
 				jarFile = new JarFile(file);
 			} catch (IOException e) {
 				// Not a jar file
-				return;
+				return null;
 			}
+			List<File> classPath;
+			List<String> resourceNames;
 			try {
-				for (File path : getClassPathFromManifest(file, jarFile.getManifest())) {
-					scan(path, classloader);
-				}
-				scanJarFile(classloader, jarFile);
+				classPath = new ArrayList<>(getClassPathFromManifest(file, jarFile.getManifest()));
+				resourceNames = getResourceNames(jarFile);
 			} finally {
 				try {
 					jarFile.close();
 				} catch (IOException ignored) {
 				}
 			}
+			if (index != null) {
+				index.put(file, classPath, resourceNames);
+			}
+			return new Listing(classPath, resourceNames);
+		}
+
+		private static List<String> getResourceNames(JarFile jarFile) {
+			List<String> resourceNames = new ArrayList<>();
+			Enumeration<JarEntry> entries = jarFile.entries();
+			while (entries.hasMoreElements()) {
+				JarEntry entry = entries.nextElement();
+				if (!entry.isDirectory() && !entry.getName().equals(JarFile.MANIFEST_NAME)) {
+					resourceNames.add(entry.getName());
+				}
+			}
+			return resourceNames;
+		}
+
+		/** The Class-Path manifest entries and resource names of one class path entry. */
+		private static final class Listing {
+			private final List<File> classPath;
+
+			private final List<String> resourceNames;
+
+			Listing(List<File> classPath, List<String> resourceNames) {
+				this.classPath = classPath;
+				this.resourceNames = resourceNames;
+			}
 		}
 
 		/**
@@ -455,6 +783,50 @@ public final class ClassPath {
 			return Collections.unmodifiableMap(entries);
 		}
 
+		/**
+		 * Returns the class path roots, and the class loaders they belong to, in which {@code
+		 * classloader} finds the directory {@code packagePath}. Roots that are not class path entries
+		 * of {@code classloader} or its ancestors are attributed to {@code classloader}.
+		 */
+		static Map<File, ClassLoader> getPackageRoots(ClassLoader classloader, String packagePath)
+				throws IOException {
+			Map<File, ClassLoader> entries = getClassPathEntries(classloader);
+			LinkedHashMap<File, ClassLoader> roots = new LinkedHashMap<>();
+			Enumeration<URL> urls = classloader.getResources(packagePath);
+			while (urls.hasMoreElements()) {
+				File root = getPackageRoot(urls.nextElement(), packagePath);
+				if (root != null && !roots.containsKey(root)) {
+					roots.put(root, entries.getOrDefault(root, classloader));
+				}
+			}
+			return Collections.unmodifiableMap(roots);
+		}
+
+		/**
+		 * Returns the directory or jar file holding the package directory at {@code packageUrl}, or
+		 * null if it is neither a {@code file:} nor a {@code jar:file:} URL.
+		 */
+		static File getPackageRoot(URL packageUrl, String packagePath) throws MalformedURLException {
+			if (packageUrl.getProtocol().equals("file")) {
+				File root = toFile(packageUrl);
+				for (int depth = packagePath.split("/").length; depth > 0 && root != null; depth--) {
+					root = root.getParentFile();
+				}
+				return root;
+			}
+			if (packageUrl.getProtocol().equals("jar")) {
+				String path = packageUrl.getPath();
+				int separator = path.lastIndexOf("!/");
+				if (separator != -1) {
+					URL jarUrl = new URL(path.substring(0, separator));
+					if (jarUrl.getProtocol().equals("file")) {
+						return toFile(jarUrl);
+					}
+				}
+			}
+			return null;
+		}
+
 		private static List<URL> getClassLoaderUrls(ClassLoader classloader) {
 			if (classloader instanceof URLClassLoader) {
 				URL[] urLs = ((URLClassLoader) classloader).getURLs();
@@ -510,6 +882,33 @@ public final class ClassPath {
 	static final class DefaultScanner extends Scanner {
 		private final Map<ClassLoader, LinkedHashSet<String>> resources = new LinkedHashMap<>();
 
+		/** Directory of the scanned package, or empty to scan every resource. */
+		private final String packagePath;
+
+		DefaultScanner() {
+			this("");
+		}
+
+		DefaultScanner(String packageName) {
+			this(packageName, 1);
+		}
+
+		DefaultScanner(String packageName, int parallelism) {
+			super(ClassPathIndex.fromSystemProperty(), parallelism);
+			this.packagePath = packageName.replace('.', '/');
+		}
+
+		void scanPackage(ClassLoader classloader) throws IOException {
+			scan(classloader, packagePath);
+		}
+
+		private boolean inPackage(String resourceName) {
+			return packagePath.isEmpty()
+					|| resourceName.startsWith(packagePath)
+							&& resourceName.length() > packagePath.length()
+							&& resourceName.charAt(packagePath.length()) == '/';
+		}
+
 		Set<ResourceInfo> getResources() {
 			Set<ResourceInfo> set = new LinkedHashSet<>();
 			for (Entry<ClassLoader, LinkedHashSet<String>> entry : resources.entrySet()) {
@@ -521,14 +920,11 @@ public final class ClassPath {
 		}
 
 		@Override
-		protected void scanJarFile(ClassLoader classloader, JarFile file) {
-			Enumeration<JarEntry> entries = file.entries();
-			while (entries.hasMoreElements()) {
-				JarEntry entry = entries.nextElement();
-				if (entry.isDirectory() || entry.getName().equals(JarFile.MANIFEST_NAME)) {
-					continue;
+		protected void scanResources(ClassLoader classloader, List<String> resourceNames) {
+			for (String resourceName : resourceNames) {
+				if (inPackage(resourceName)) {
+					resourcesGet(classloader).add(resourceName);
 				}
-				resourcesGet(classloader).add(entry.getName());
 			}
 		}
 
@@ -538,10 +934,20 @@ public final class ClassPath {
 		}
 
 		@Override
-		protected void scanDirectory(ClassLoader classloader, File directory) throws IOException {
+		protected List<String> listDirectory(File directory) throws IOException {
+			List<String> resourceNames = new ArrayList<>();
 			Set<File> currentPath = new HashSet<>();
-			currentPath.add(directory.getCanonicalFile());
-			scanDirectory(directory, classloader, "", currentPath);
+			if (packagePath.isEmpty()) {
+				currentPath.add(directory.getCanonicalFile());
+				listDirectory(directory, "", currentPath, resourceNames);
+			} else {
+				File packageDirectory = new File(directory, packagePath);
+				if (packageDirectory.isDirectory()) {
+					currentPath.add(packageDirectory.getCanonicalFile());
+					listDirectory(packageDirectory, packagePath + "/", currentPath, resourceNames);
+				}
+			}
+			return resourceNames;
 		}
 
 		/**
@@ -550,14 +956,14 @@ public final class ClassPath {
 		 * cycles; otherwise symlinks are traversed.
 		 *
 		 * @param directory the root of the directory to scan
-		 * @param classloader the classloader that includes resources found in {@code directory}
-		 * @param packagePrefix resource path prefix inside {@code classloader} for any files found
+		 * @param packagePrefix resource path prefix inside the class loader for any files found
 		 *     under {@code directory}
 		 * @param currentPath canonical files already visited in the current directory tree path, for
 		 *     cycle elimination
+		 * @param resourceNames the resource names found so far, to add to
 		 */
-		private void scanDirectory(
-				File directory, ClassLoader classloader, String packagePrefix, Set<File> currentPath)
+		private void listDirectory(
+				File directory, String packagePrefix, Set<File> currentPath, List<String> resourceNames)
 				throws IOException {
 			File[] files = directory.listFiles();
 			if (files == null) {
@@ -570,13 +976,13 @@ public final class ClassPath {
 				if (f.isDirectory()) {
 					File deref = f.getCanonicalFile();
 					if (currentPath.add(deref)) {
-						scanDirectory(deref, classloader, packagePrefix + name + "/", currentPath);
+						listDirectory(deref, packagePrefix + name + "/", currentPath, resourceNames);
 						currentPath.remove(deref);
 					}
 				} else {
 					String resourceName = packagePrefix + name;
 					if (!resourceName.equals(JarFile.MANIFEST_NAME)) {
-						resourcesGet(classloader).add(resourceName);
+						resourceNames.add(resourceName);
 					}
 				}
 			}
@@ -0,0 +1,253 @@
+/*-
+ * ​​​
+ * meanbean
+ * ⁣⁣⁣
+ * Copyright (C) 2010 - 2020 the original author or authors.
+ * ⁣⁣⁣
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ﻿﻿﻿﻿﻿
+ */
+
+package org.meanbean.util;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Logger;
+
+/**
+ * Persistent index of the jar files scanned by {@link ClassPath}, so that later JVMs need not open jars that have not
+ * changed. <br>
+ * 
+ * Each jar is recorded with its size and last-modified time, the Class-Path entries of its manifest and the names of
+ * its resources. A recorded listing is only used while the jar's size and last-modified time are unchanged. Directories
+ * are always scanned, since their contents can change without their own timestamp changing. <br>
+ * 
+ * The index is enabled by setting the system property {@value #INDEX_FILE_PROPERTY} to the index file, for example
+ * <code>target/meanbean-classpath.idx</code>. An unreadable or outdated index file is ignored and rewritten.
+ */
+final class ClassPathIndex {
+
+	static final String INDEX_FILE_PROPERTY = "meanbean.classpath.index";
+
+	private static final String HEADER = "meanbean-classpath-index 1";
+
+	private static final Logger logger = Logger.getLogger(ClassPathIndex.class.getName());
+
+	private static volatile ClassPathIndex systemIndex;
+
+	private final Path indexFile;
+
+	private final Map<String, JarListing> listings = new HashMap<>();
+
+	private boolean modified;
+
+	private ClassPathIndex(Path indexFile) {
+		this.indexFile = indexFile;
+	}
+
+	/**
+	 * Returns the index configured by the {@value #INDEX_FILE_PROPERTY} system property, loaded once per process, or
+	 * null if the property is not set.
+	 */
+	static ClassPathIndex fromSystemProperty() {
+		String indexFileName = System.getProperty(INDEX_FILE_PROPERTY);
+		if (indexFileName == null || indexFileName.isEmpty()) {
+			return null;
+		}
+		ClassPathIndex index = systemIndex;
+		Path indexFile = new File(indexFileName).toPath();
+		if (index == null || !index.indexFile.equals(indexFile)) {
+			synchronized (ClassPathIndex.class) {
+				index = systemIndex;
+				if (index == null || !index.indexFile.equals(indexFile)) {
+					index = load(indexFile);
+					systemIndex = index;
+				}
+			}
+		}
+		return index;
+	}
+
+	/**
+	 * Reads the index stored in the specified file. A missing file gives an empty index; so does an unreadable one,
+	 * which is then replaced when the index is saved.
+	 */
+	static ClassPathIndex load(Path indexFile) {
+		ClassPathIndex index = new ClassPathIndex(indexFile);
+		if (Files.isRegularFile(indexFile)) {
+			try {
+				index.read();
+			} catch (IOException | RuntimeException e) {
+				logger.warning("Ignoring unreadable class path index " + indexFile + ": " + e);
+				index.listings.clear();
+				index.modified = true;
+			}
+		}
+		return index;
+	}
+
+	/** Returns the recorded listing of the specified jar, or null if it is not recorded or has changed since. */
+	synchronized JarListing get(File jarFile) {
+		JarListing listing = listings.get(jarFile.getAbsolutePath());
+		if (listing != null && listing.size == jarFile.length() && listing.lastModified == jarFile.lastModified()) {
+			return listing;
+		}
+		return null;
+	}
+
+	/** Records the listing of the specified jar, replacing any listing recorded for it before. */
+	synchronized void put(File jarFile, List<File> classPath, List<String> resourceNames) {
+		List<String> classPathNames = new ArrayList<>(classPath.size());
+		for (File file : classPath) {
+			classPathNames.add(file.getPath());
+		}
+		listings.put(jarFile.getAbsolutePath(),
+				new JarListing(jarFile.length(), jarFile.lastModified(), classPathNames, resourceNames));
+		modified = true;
+	}
+
+	/** Writes the index to its file if any listing was recorded since it was loaded or last saved. */
+	synchronized void save() {
+		if (!modified) {
+			return;
+		}
+		try {
+			write();
+			modified = false;
+		} catch (IOException e) {
+			logger.warning("Cannot write class path index " + indexFile + ": " + e);
+		}
+	}
+
+	private void read() throws IOException {
+		try (BufferedReader reader = Files.newBufferedReader(indexFile, StandardCharsets.UTF_8)) {
+			if (!HEADER.equals(reader.readLine())) {
+				throw new IOException("unknown format");
+			}
+			String jarPath = null;
+			long size = 0;
+			long lastModified = 0;
+			List<String> classPath = null;
+			List<String> resourceNames = null;
+			String line;
+			while ((line = reader.readLine()) != null) {
+				if (line.isEmpty()) {
+					continue;
+				}
+				String value = line.substring(2);
+				switch (line.charAt(0)) {
+				case 'J':
+					if (jarPath != null) {
+						listings.put(jarPath, new JarListing(size, lastModified, classPath, resourceNames));
+					}
+					String[] fields = value.split(" ", 3);
+					size = Long.parseLong(fields[0]);
+					lastModified = Long.parseLong(fields[1]);
+					jarPath = fields[2];
+					classPath = new ArrayList<>();
+					resourceNames = new ArrayList<>();
+					break;
+				case 'C':
+					classPath.add(value);
+					break;
+				case 'E':
+					resourceNames.add(value);
+					break;
+				default:
+					throw new IOException("unknown record: " + line);
+				}
+			}
+			if (jarPath != null) {
+				listings.put(jarPath, new JarListing(size, lastModified, classPath, resourceNames));
+			}
+		}
+	}
+
+	private void write() throws IOException {
+		Path directory = indexFile.toAbsolutePath().getParent();
+		Files.createDirectories(directory);
+		// write aside then move, so that concurrently forked JVMs never read a partial index
+		Path temporaryFile = Files.createTempFile(directory, indexFile.getFileName().toString(), ".tmp");
+		try {
+			try (BufferedWriter writer = Files.newBufferedWriter(temporaryFile, StandardCharsets.UTF_8)) {
+				writer.write(HEADER);
+				writer.newLine();
+				for (Map.Entry<String, JarListing> entry : listings.entrySet()) {
+					JarListing listing = entry.getValue();
+					writer.write("J " + listing.size + " " + listing.lastModified + " " + entry.getKey());
+					writer.newLine();
+					for (String classPathEntry : listing.classPath) {
+						writer.write("C " + classPathEntry);
+						writer.newLine();
+					}
+					for (String resourceName : listing.resourceNames) {
+						writer.write("E " + resourceName);
+						writer.newLine();
+					}
+				}
+			}
+			try {
+				Files.move(temporaryFile, indexFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+			} catch (AtomicMoveNotSupportedException e) {
+				Files.move(temporaryFile, indexFile, StandardCopyOption.REPLACE_EXISTING);
+			}
+		} finally {
+			Files.deleteIfExists(temporaryFile);
+		}
+	}
+
+	/** The recorded contents of one jar file. */
+	static final class JarListing {
+
+		private final long size;
+
+		private final long lastModified;
+
+		private final List<String> classPath;
+
+		private final List<String> resourceNames;
+
+		private JarListing(long size, long lastModified, List<String> classPath, List<String> resourceNames) {
+			this.size = size;
+			this.lastModified = lastModified;
+			this.classPath = Collections.unmodifiableList(classPath);
+			this.resourceNames = Collections.unmodifiableList(resourceNames);
+		}
+
+		/** Returns the Class-Path entries of the jar's manifest. */
+		List<File> getClassPath() {
+			List<File> files = new ArrayList<>(classPath.size());
+			for (String classPathEntry : classPath) {
+				files.add(new File(classPathEntry));
+			}
+			return files;
+		}
+
+		/** Returns the names of the jar's resources, excluding directories and the manifest. */
+		List<String> getResourceNames() {
+			return resourceNames;
+		}
+	}
+}
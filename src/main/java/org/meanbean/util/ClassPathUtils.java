@@ -23,17 +23,78 @@ package org.meanbean.util;
 import org.meanbean.test.BeanVerifier;
 import org.meanbean.util.ClassPath.ClassInfo;
 
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.lang.reflect.Modifier;
-import java.util.Set;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.stream.Collectors;
 
+/**
+ * Finds the concrete classes of a package and its subpackages. <br>
+ * 
+ * Only the class path roots containing the package are scanned, concurrently, and the class names found are cached per
+ * class loader and package for the life of the class loader, so a package is scanned once per process. Interfaces and
+ * abstract classes are recognized from their class file header, so they are never loaded.
+ */
 public final class ClassPathUtils {
 
+	/** Names of the concrete top level classes of each scanned package, keyed by class loader then package name. */
+	private static final Map<ClassLoader, Map<String, List<String>>> classNamesCache = new WeakHashMap<>();
+
 	public static Class<?>[] findClassesIn(String packageName) {
-		ClassPath classPath = ClassPath.from(BeanVerifier.class);
-		Set<ClassInfo> classInfoSet = classPath.getTopLevelClassesRecursive(packageName);
-		return classInfoSet.stream()
-				.map(ClassInfo::load)
+		ClassLoader classLoader = ClassPath.classLoaderFor(BeanVerifier.class);
+		return classNamesIn(classLoader, packageName).stream()
+				.map(className -> load(classLoader, className))
 				.filter(clazz -> !clazz.isInterface() && !Modifier.isAbstract(clazz.getModifiers()))
 				.toArray(Class<?>[]::new);
 	}
+
+	// names rather than ClassInfos: cached values must not reference their class loader key
+	private static synchronized List<String> classNamesIn(ClassLoader classLoader, String packageName) {
+		Map<String, List<String>> classNamesByPackage = classNamesCache.computeIfAbsent(classLoader,
+				key -> new HashMap<>());
+		List<String> classNames = classNamesByPackage.get(packageName);
+		if (classNames == null) {
+			classNames = scan(classLoader, packageName)
+					.getTopLevelClassesRecursive(packageName)
+					.stream()
+					.filter(ClassPathUtils::mayBeConcrete)
+					.map(ClassInfo::getName)
+					.collect(Collectors.collectingAndThen(Collectors.toList(), Collections::unmodifiableList));
+			classNamesByPackage.put(packageName, classNames);
+		}
+		return classNames;
+	}
+
+	// the class file header decides without loading; classes whose header cannot be read are checked once loaded
+	private static boolean mayBeConcrete(ClassInfo classInfo) {
+		try (InputStream classFile = new BufferedInputStream(classInfo.url().openStream())) {
+			return ClassFileHeader.read(classFile).isConcrete();
+		} catch (IOException | RuntimeException e) {
+			return true;
+		}
+	}
+
+	private static ClassPath scan(ClassLoader classLoader, String packageName) {
+		try {
+			return ClassPath.from(classLoader, packageName, Runtime.getRuntime().availableProcessors());
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	private static Class<?> load(ClassLoader classLoader, String className) {
+		try {
+			return classLoader.loadClass(className);
+		} catch (ClassNotFoundException e) {
+			// Shouldn't happen, since the class name is read from the class path.
+			throw new IllegalStateException(e);
+		}
+	}
 }
@@ -0,0 +1,184 @@
+/*-
+ * ​​​
+ * meanbean
+ * ⁣⁣⁣
+ * Copyright (C) 2010 - 2020 the original author or authors.
+ * ⁣⁣⁣
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ﻿﻿﻿﻿﻿
+ */
+
+package org.meanbean.util;
+
+import org.kohsuke.MetaInfServices;
+
+import java.util.SplittableRandom;
+
+/**
+ * <p>
+ * Concrete implementation of RandomValueGenerator that produces a reproducible stream of values from a seed. <br>
+ * </p>
+ * 
+ * <p>
+ * Unless the seed is passed explicitly, it is taken from the <code>meanbean.seed</code> system property, or chosen at
+ * random once per JVM when the property is not set. The seed of a failed bean verification is logged, and running the
+ * verification again with <code>-Dmeanbean.seed=&lt;seed&gt;</code> generates the same test values. <br>
+ * </p>
+ * 
+ * <p>
+ * Independent deterministic streams can be derived from a generator, either with {@link #split()} for a worker, or
+ * with {@link #reset(Class)} for a bean class, so that the values generated for a bean class do not depend on the order
+ * in which bean classes are verified.
+ * </p>
+ */
+@MetaInfServices
+@Order(1000)
+public class SeededRandomValueGenerator implements RandomValueGenerator {
+
+	/** Name of the system property that holds the seed to generate values from. */
+	public static final String SEED_PROPERTY = "meanbean.seed";
+
+	/** The seed used when the system property is not set, chosen once per JVM. */
+	private static final long DEFAULT_SEED = new SplittableRandom().nextLong();
+
+	/** Golden ratio increment, used to spread bean class hash codes over the whole range of seeds. */
+	private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+
+	private final long seed;
+
+	private SplittableRandom random;
+
+	/**
+	 * Construct a new generator whose seed is taken from the <code>meanbean.seed</code> system property, if set.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the system property is not a valid long.
+	 */
+	public SeededRandomValueGenerator() throws IllegalArgumentException {
+		this(seedFromSystemProperty());
+	}
+
+	/**
+	 * Construct a new generator that generates values from the specified seed.
+	 * 
+	 * @param seed
+	 *            The seed to generate values from.
+	 */
+	public SeededRandomValueGenerator(long seed) {
+		this(seed, new SplittableRandom(seed));
+	}
+
+	private SeededRandomValueGenerator(long seed, SplittableRandom random) {
+		this.seed = seed;
+		this.random = random;
+	}
+
+	/**
+	 * Get the seed that the values of this generator are derived from.
+	 * 
+	 * @return The seed, as it should be passed back through the <code>meanbean.seed</code> system property.
+	 */
+	public long getSeed() {
+		return seed;
+	}
+
+	/**
+	 * Create a new generator with a stream of values independent of this one, for example for another worker thread.
+	 * The new generator reports the same seed, and the streams of both generators remain reproducible from it as long
+	 * as they are split in the same order.
+	 * 
+	 * @return A new generator.
+	 */
+	public synchronized SeededRandomValueGenerator split() {
+		return new SeededRandomValueGenerator(seed, random.split());
+	}
+
+	/**
+	 * Restart the stream of values of this generator at a point derived from the seed and the name of the specified
+	 * bean class. The values then generated for a bean class only depend on the seed.
+	 * 
+	 * @param beanClass
+	 *            The bean class whose test values are generated next.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the beanClass is deemed illegal. For example, if it is null.
+	 */
+	public synchronized void reset(Class<?> beanClass) throws IllegalArgumentException {
+		ValidationHelper.ensureExists("beanClass", "reset random values", beanClass);
+		random = new SplittableRandom(seed + GOLDEN_GAMMA * beanClass.getName().hashCode());
+	}
+
+	@Override
+	public synchronized byte nextByte() {
+		return (byte) random.nextInt();
+	}
+
+	@Override
+	public synchronized byte[] nextBytes(int size) throws IllegalArgumentException {
+		if (size < 0) {
+			throw new IllegalArgumentException("Cannot generate a random array of bytes of negative length.");
+		}
+		byte[] bytes = new byte[size];
+		int idx = 0;
+		while (idx < size) {
+			long value = random.nextLong();
+			for (int end = Math.min(size, idx + Long.BYTES); idx < end; idx++, value >>>= Byte.SIZE) {
+				bytes[idx] = (byte) value;
+			}
+		}
+		return bytes;
+	}
+
+	@Override
+	public synchronized int nextInt() {
+		return random.nextInt();
+	}
+
+	@Override
+	public synchronized int nextInt(int bound) {
+		return random.nextInt(bound);
+	}
+
+	@Override
+	public synchronized long nextLong() {
+		return random.nextLong();
+	}
+
+	@Override
+	public synchronized float nextFloat() {
+		return (random.nextInt() >>> 8) * 0x1.0p-24f;
+	}
+
+	@Override
+	public synchronized double nextDouble() {
+		return random.nextDouble();
+	}
+
+	@Override
+	public synchronized boolean nextBoolean() {
+		return random.nextBoolean();
+	}
+
+	private static long seedFromSystemProperty() throws IllegalArgumentException {
+		String property = System.getProperty(SEED_PROPERTY);
+		if (property == null || property.trim().isEmpty()) {
+			return DEFAULT_SEED;
+		}
+		try {
+			return Long.parseLong(property.trim());
+		} catch (NumberFormatException e) {
+			throw new IllegalArgumentException(
+					"System property " + SEED_PROPERTY + " must be a long, but was [" + property + "].", e);
+		}
+	}
+}
@@ -30,6 +30,7 @@ public class ServiceDefinition<T> {
 	private Class<T> serviceType;
 	private Class<?>[] constructorTypes = {};
 	private Object[] constructorArgs = {};
+	private boolean optional;
 
 	public ServiceDefinition(Class<T> serviceType) {
 		this(serviceType, new Class<?>[] {}, new Object[] {});
@@ -56,6 +57,18 @@ public class ServiceDefinition<T> {
 		return constructorArgs;
 	}
 
+	boolean isOptional() {
+		return optional;
+	}
+
+	/**
+	 * Allows the service to have no implementations, in which case its ServiceFactory provides none instead of failing
+	 */
+	public ServiceDefinition<T> optional() {
+		this.optional = true;
+		return this;
+	}
+
 	public ServiceFactory<T> getServiceFactory(){
 		return ServiceFactory.getInstance(this);
 	}
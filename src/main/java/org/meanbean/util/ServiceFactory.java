@@ -41,10 +41,21 @@ public class ServiceFactory<T> {
 	private final List<T> services;
 
 	@SuppressWarnings("unchecked")
-	static synchronized <T> ServiceFactory<T> getInstance(ServiceDefinition<T> definition) {
+	static <T> ServiceFactory<T> getInstance(ServiceDefinition<T> definition) {
+		// read already loaded services without the global lock so that concurrent verifications do not serialize on it
+		Map<String, Object> contextMap = serviceContextMap.getContextMap();
+		Object serviceFactory = contextMap.get(definition.getServiceType().getName());
+		if (serviceFactory != null) {
+			return (ServiceFactory<T>) serviceFactory;
+		}
+		return loadInstance(definition, contextMap);
+	}
+
+	@SuppressWarnings("unchecked")
+	private static synchronized <T> ServiceFactory<T> loadInstance(ServiceDefinition<T> definition,
+			Map<String, Object> contextMap) {
 		String inprogressKey = "Load of " + definition.getServiceType().getName() + " already in progress";
 
-		Map<String, Object> contextMap = serviceContextMap.getContextMap();
 		if (contextMap.containsKey(inprogressKey)) {
 			throw new IllegalStateException(inprogressKey);
 		}
@@ -84,7 +95,7 @@ public class ServiceFactory<T> {
 	}
 
 	private ServiceFactory(List<T> services, ServiceDefinition<T> definition) {
-		if (services.isEmpty()) {
+		if (services.isEmpty() && !definition.isOptional()) {
 			throw new IllegalArgumentException("cannot find services for " + definition.getServiceType());
 		}
 		this.services = Collections.unmodifiableList(services);
@@ -40,7 +40,7 @@ public class SimpleRandomValueGenerator implements RandomValueGenerator {
 	 */
 	@Override
     public byte nextByte() {
-		return nextBytes(1)[0];
+		return (byte) random().nextInt();
 	}
 
 	/**
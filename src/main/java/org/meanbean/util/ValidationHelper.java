@@ -81,4 +81,23 @@ public final class ValidationHelper {
     		throw new IllegalArgumentException(msg);
     	}
     }
+
+	/**
+	 * Ensure that length elements fit in an array of arrayLength elements, conditionally throwing an
+	 * IllegalArgumentException if they do not.
+	 * 
+	 * @param arrayLength
+	 *            The length of the array.
+	 * @param length
+	 *            The number of elements, starting at index 0.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If length is negative or greater than arrayLength.
+	 */
+	public static void ensureLength(int arrayLength, int length) throws IllegalArgumentException {
+		if (length < 0 || length > arrayLength) {
+			throw new IllegalArgumentException(
+					"Cannot fill " + length + " elements of an array of length " + arrayLength + ".");
+		}
+	}
 }
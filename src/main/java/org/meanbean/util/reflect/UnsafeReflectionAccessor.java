@@ -15,6 +15,9 @@
  */
 package org.meanbean.util.reflect;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.AccessibleObject;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
@@ -24,17 +27,25 @@ import java.lang.reflect.Method;
  * <p>
  * NOTE: This implementation is designed for Java 9. Although it should work with earlier Java releases, it is better to
  * use {@link PreJava9ReflectionAccessor} for them.
+ * <p>
+ * The Unsafe write of the override flag is resolved once, at class initialization, into a method handle taking only
+ * the object to open. Objects that are already accessible are not written again.
  */
-@SuppressWarnings({"unchecked", "rawtypes"})
+@SuppressWarnings({"unchecked", "rawtypes", "deprecation"})
 final class UnsafeReflectionAccessor extends ReflectionAccessor {
 
   private static Class unsafeClass;
-  private final Object theUnsafe = getUnsafeInstance();
-  private final Field overrideField = getOverrideField();
+  private static final Object theUnsafe = getUnsafeInstance();
+  private static final Field overrideField = getOverrideField();
+  // (AccessibleObject)void, does theUnsafe.putBoolean(ao, overrideOffset, true); null if unavailable
+  private static final MethodHandle putOverrideHandle = getPutOverrideHandle();
 
   /** {@inheritDoc} */
   @Override
   public void makeAccessible(AccessibleObject ao) {
+    if (ao.isAccessible()) {
+      return;
+    }
     boolean success = makeAccessibleWithUnsafe(ao);
     if (!success) {
       try {
@@ -48,14 +59,11 @@ final class UnsafeReflectionAccessor extends ReflectionAccessor {
 
   // Visible for testing only
   boolean makeAccessibleWithUnsafe(AccessibleObject ao) {
-    if (theUnsafe != null && overrideField != null) {
+    if (putOverrideHandle != null) {
       try {
-        Method method = unsafeClass.getMethod("objectFieldOffset", Field.class);
-        long overrideOffset = (Long) method.invoke(theUnsafe, overrideField);  // long overrideOffset = theUnsafe.objectFieldOffset(overrideField);
-        Method putBooleanMethod = unsafeClass.getMethod("putBoolean",  Object.class, long.class, boolean.class);
-        putBooleanMethod.invoke(theUnsafe, ao, overrideOffset, true); // theUnsafe.putBoolean(ao, overrideOffset, true);
+        putOverrideHandle.invokeExact(ao);
         return true;
-      } catch (Exception ignored) { // do nothing
+      } catch (Throwable ignored) { // do nothing
       }
     }
     return false;
@@ -79,4 +87,20 @@ final class UnsafeReflectionAccessor extends ReflectionAccessor {
       return null;
     }
   }
+
+  private static MethodHandle getPutOverrideHandle() {
+    if (theUnsafe == null || overrideField == null) {
+      return null;
+    }
+    try {
+      Method method = unsafeClass.getMethod("objectFieldOffset", Field.class);
+      long overrideOffset = (Long) method.invoke(theUnsafe, overrideField);  // long overrideOffset = theUnsafe.objectFieldOffset(overrideField);
+      MethodHandle putBoolean = MethodHandles.publicLookup().findVirtual(unsafeClass, "putBoolean",
+          MethodType.methodType(void.class, Object.class, long.class, boolean.class));
+      return MethodHandles.insertArguments(putBoolean.bindTo(theUnsafe), 1, overrideOffset, true)
+          .asType(MethodType.methodType(void.class, AccessibleObject.class));
+    } catch (Exception e) {
+      return null;
+    }
+  }
 }
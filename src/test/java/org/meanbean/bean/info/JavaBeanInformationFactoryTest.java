@@ -21,6 +21,7 @@
 package org.meanbean.bean.info;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
 
 import org.junit.Test;
 
@@ -37,6 +38,17 @@ public class JavaBeanInformationFactoryTest {
         assertEquals("Incorrect BeanInformation.", beanInformation.getBeanClass(), inputBeanClass);
     }
 
+    @Test
+    public void shouldReuseBeanInformationForSameBeanClass() throws Exception {
+        // Given
+        Class<PropertyInformationBean> inputBeanClass = PropertyInformationBean.class;
+        // When
+        BeanInformation first = new JavaBeanInformationFactory().create(inputBeanClass);
+        BeanInformation second = new JavaBeanInformationFactory().create(inputBeanClass);
+        // Then
+        assertSame("BeanInformation should be cached per bean class.", first, second);
+    }
+
     @Test(expected = IllegalArgumentException.class)
     public void shouldPreventNullBeanClass() throws Exception {
         // Given
@@ -23,10 +23,13 @@ package org.meanbean.bean.info;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
 
 import java.beans.IntrospectionException;
 import java.beans.PropertyDescriptor;
+import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 
 import org.junit.Before;
@@ -59,6 +62,10 @@ public class PropertyDescriptorPropertyInformationTest {
 		public void setFirstNameAndLastName(String firstName, String lastName) {
 			setFirstName(firstName);
 		}
+
+		public String getBrokenName() {
+			throw new IllegalStateException("broken name");
+		}
 	}
 
 	private Method readMethod;
@@ -232,6 +239,46 @@ public class PropertyDescriptorPropertyInformationTest {
 		new PropertyDescriptorPropertyInformation(propertyDescriptor);
 	}
 
+	@Test
+	public void getterAndSetterShouldAccessProperty() throws Exception {
+		PropertyDescriptorPropertyInformation propertyInformation =
+		        new PropertyDescriptorPropertyInformation(propertyDescriptor);
+		Bean bean = new Bean();
+		propertyInformation.setter().set(bean, "Bob");
+		assertThat("Property value incorrect.", bean.getFirstName(), is("Bob"));
+		assertThat("Property value incorrect.", propertyInformation.getter().get(bean), is("Bob"));
+	}
+
+	@Test
+	public void getterAndSetterShouldBeReused() throws Exception {
+		PropertyDescriptorPropertyInformation propertyInformation =
+		        new PropertyDescriptorPropertyInformation(propertyDescriptor);
+		assertThat("Getter not reused.", propertyInformation.getter(), is(sameInstance(propertyInformation.getter())));
+		assertThat("Setter not reused.", propertyInformation.setter(), is(sameInstance(propertyInformation.setter())));
+	}
+
+	@Test
+	public void setterShouldBeNullWhenWriteMethodDoesNotExist() throws Exception {
+		PropertyDescriptor propertyDescriptor = new PropertyDescriptor(PROPERTY_NAME, readMethod, null);
+		PropertyDescriptorPropertyInformation propertyInformation =
+		        new PropertyDescriptorPropertyInformation(propertyDescriptor);
+		assertThat("Setter should be null.", propertyInformation.setter(), is(nullValue()));
+	}
+
+	@Test
+	public void getterShouldWrapExceptionThrownByReadMethod() throws Exception {
+		PropertyDescriptor propertyDescriptor =
+		        new PropertyDescriptor("brokenName", Bean.class.getMethod("getBrokenName"), null);
+		PropertyDescriptorPropertyInformation propertyInformation =
+		        new PropertyDescriptorPropertyInformation(propertyDescriptor);
+		try {
+			propertyInformation.getter().get(new Bean());
+			fail("Exception should have been thrown.");
+		} catch (InvocationTargetException e) {
+			assertThat("Cause incorrect.", e.getCause().getMessage(), is("broken name"));
+		}
+	}
+
 	@Test
 	public void testToString() throws Exception {
 		PropertyDescriptorPropertyInformation propertyInformation =
@@ -60,6 +60,33 @@ public class ArrayFactoryLookupTest {
 		}
 	}
 
+	@Test
+	public void getFactoryOfPrimitiveArrays() throws Exception {
+		Factory<int[]> intArrayFactory = arrayFactoryCollection.getFactory(int[].class);
+		Factory<byte[]> byteArrayFactory = arrayFactoryCollection.getFactory(byte[].class);
+		Factory<boolean[]> booleanArrayFactory = arrayFactoryCollection.getFactory(boolean[].class);
+
+		for (int idx = 0; idx < 10; idx++) {
+			assertThat(intArrayFactory.create())
+					.hasSizeLessThanOrEqualTo(arrayFactoryCollection.getMaxSize());
+			assertThat(byteArrayFactory.create())
+					.hasSizeLessThanOrEqualTo(arrayFactoryCollection.getMaxSize());
+			assertThat(booleanArrayFactory.create())
+					.hasSizeLessThanOrEqualTo(arrayFactoryCollection.getMaxSize());
+		}
+	}
+
+	@Test
+	public void getFactoryShouldUseRegisteredComponentFactory() throws Exception {
+		FactoryCollection.getInstance().addFactory(Short.class, () -> (short) 7);
+		Factory<Short[]> factory = arrayFactoryCollection.getFactory(Short[].class);
+
+		for (int idx = 0; idx < 10; idx++) {
+			assertThat(factory.create())
+					.allMatch(value -> value == 7);
+		}
+	}
+
 	@Test
 	public void maxArrayLength() {
 		assertThat(arrayFactoryCollection.getMaxSize())
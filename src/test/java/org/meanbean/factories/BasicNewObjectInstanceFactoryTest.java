@@ -25,6 +25,9 @@ import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.not;
 import static org.hamcrest.Matchers.nullValue;
 import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.fail;
+
+import java.lang.reflect.InvocationTargetException;
 
 import org.junit.Test;
 import org.meanbean.test.beans.Bean;
@@ -63,4 +66,46 @@ public class BasicNewObjectInstanceFactoryTest {
 		Object createdObject = new BasicNewObjectInstanceFactory(PackagePrivateConstructorObject.class).create();
 		assertThat("Factory failed to create non-null object.", createdObject, is(not(nullValue())));
 	}
+
+	@Test
+	public void createShouldReportMissingNoArgConstructorOnEveryInvocation() throws Exception {
+		BasicNewObjectInstanceFactory factory = new BasicNewObjectInstanceFactory(NonBean.class);
+		for (int i = 0; i < 2; i++) {
+			try {
+				factory.create();
+				fail("Expected ObjectCreationException");
+			} catch (ObjectCreationException e) {
+				assertThat(e.getMessage(), is("Failed to instantiate object of type [" + NonBean.class.getName()
+						+ "] due to NoSuchMethodException. Do you need to add a custom Factory?"));
+				assertThat(e.getCause() instanceof NoSuchMethodException, is(true));
+			}
+		}
+	}
+
+	@Test
+	public void createShouldWrapExceptionThrownByConstructor() throws Exception {
+		try {
+			new BasicNewObjectInstanceFactory(ThrowingConstructorObject.class).create();
+			fail("Expected ObjectCreationException");
+		} catch (ObjectCreationException e) {
+			assertThat(e.getMessage(), is("Failed to instantiate object of type ["
+					+ ThrowingConstructorObject.class.getName() + "] due to InvocationTargetException."));
+			assertThat(e.getCause() instanceof InvocationTargetException, is(true));
+			assertThat(e.getCause().getCause() instanceof IllegalStateException, is(true));
+		}
+	}
+
+	@Test(expected = ObjectCreationException.class)
+	public void createWillThrowObjectCreationExceptionWhenClassIsAbstract() throws Exception {
+		new BasicNewObjectInstanceFactory(AbstractObject.class).create();
+	}
+
+	static class ThrowingConstructorObject {
+		ThrowingConstructorObject() {
+			throw new IllegalStateException("cannot construct");
+		}
+	}
+
+	static abstract class AbstractObject {
+	}
 }
@@ -0,0 +1,110 @@
+/*-
+ * ​​​
+ * meanbean
+ * ⁣⁣⁣
+ * Copyright (C) 2010 - 2020 the original author or authors.
+ * ⁣⁣⁣
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ﻿﻿﻿﻿﻿
+ */
+
+package org.meanbean.factories;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.meanbean.lang.Factory;
+import org.meanbean.util.ServiceFactory;
+
+import java.lang.reflect.Type;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+public class FactoryCollectionRepositoryTest {
+
+	private FactoryCollection factoryCollection;
+
+	@Before
+	public void setUp() {
+		ServiceFactory.createContext(this);
+		factoryCollection = FactoryCollection.getInstance();
+	}
+
+	@Test
+	public void repeatedLookupsReuseResolvedFactory() {
+		CountingFactoryLookup lookup = new CountingFactoryLookup(() -> "first");
+		factoryCollection.addFactoryLookup(lookup);
+
+		Factory<String> factory1 = factoryCollection.getFactory(Marker.class);
+		Factory<String> factory2 = factoryCollection.getFactory(Marker.class);
+
+		assertThat(factoryCollection.hasFactory(Marker.class)).isTrue();
+		assertThat(factory1).isSameAs(factory2);
+		assertThat(lookup.hasFactoryCalls.get()).isEqualTo(1);
+		assertThat(lookup.getFactoryCalls.get()).isEqualTo(1);
+	}
+
+	@Test
+	public void addFactoryInvalidatesResolvedFactory() {
+		assertThat(factoryCollection.hasFactory(Marker.class)).isFalse();
+
+		factoryCollection.addFactory(Marker.class, () -> "registered");
+
+		assertThat(factoryCollection.hasFactory(Marker.class)).isTrue();
+		assertThat(factoryCollection.getFactory(Marker.class).create()).isEqualTo("registered");
+	}
+
+	@Test
+	public void addFactoryLookupInvalidatesResolvedFactory() {
+		factoryCollection.addFactory(Marker.class, () -> "registered");
+		assertThat(factoryCollection.getFactory(Marker.class).create()).isEqualTo("registered");
+
+		factoryCollection.addFactoryLookup(new CountingFactoryLookup(() -> "lookup"));
+
+		assertThat(factoryCollection.getFactory(Marker.class).create()).isEqualTo("lookup");
+	}
+
+	@Test
+	public void getFactoryWithoutFactoryThrows() {
+		assertThatCode(() -> factoryCollection.getFactory(Marker.class))
+				.isInstanceOf(NoSuchFactoryException.class);
+	}
+
+	private static class Marker {
+	}
+
+	private static class CountingFactoryLookup implements FactoryLookup {
+
+		private final AtomicInteger hasFactoryCalls = new AtomicInteger();
+		private final AtomicInteger getFactoryCalls = new AtomicInteger();
+		private final Factory<String> factory;
+
+		CountingFactoryLookup(Factory<String> factory) {
+			this.factory = factory;
+		}
+
+		@SuppressWarnings("unchecked")
+		@Override
+		public <T> Factory<T> getFactory(Type type) {
+			getFactoryCalls.incrementAndGet();
+			return (Factory<T>) factory;
+		}
+
+		@Override
+		public boolean hasFactory(Type type) {
+			hasFactoryCalls.incrementAndGet();
+			return Marker.class.equals(type);
+		}
+	}
+}
@@ -23,8 +23,12 @@ package org.meanbean.factories.basic;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.nullValue;
 import static org.hamcrest.Matchers.sameInstance;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.junit.Test;
 import org.meanbean.lang.Factory;
 import org.meanbean.util.RandomValueGenerator;
@@ -52,6 +56,29 @@ public abstract class BasicFactoryTestBase<T> {
 		assertThat("Factory does not create different values.", createdObject1, is(not(createdObject2)));
 	}
 
+	@Test
+	public void createIntoShouldFillObjectArray() throws Exception {
+		Factory<T> factory = createFactory(createRandomNumberGenerator());
+		Object[] array = new Object[3];
+		factory.createInto(array, 2);
+		assertThat("Factory does not create into array.", array[0], is(not(nullValue())));
+		assertThat("Factory does not create into array.", array[1], is(not(nullValue())));
+		assertThat("Factory creates beyond length.", array[2], is(nullValue()));
+	}
+
+	@Test
+	public void createIntoShouldAddToCollection() throws Exception {
+		Factory<T> factory = createFactory(createRandomNumberGenerator());
+		List<T> collection = new ArrayList<>();
+		factory.createInto(collection, 2);
+		assertThat("Factory does not create into collection.", collection.size(), is(2));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void createIntoShouldPreventLengthBeyondArray() throws Exception {
+		createFactory(createRandomNumberGenerator()).createInto(new Object[1], 2);
+	}
+
 	protected abstract RandomValueGenerator createRandomNumberGenerator();
 
 	protected abstract Factory<T> createFactory(RandomValueGenerator randomValueGenerator);
@@ -50,4 +50,13 @@ public class ByteFactoryTest extends BasicFactoryTestBase<Byte> {
 		assertThat("Incorrect random Byte.", factory.create(), is(RANDOM_BYTE_1));
 		assertThat("Incorrect random Byte.", factory.create(), is(RANDOM_BYTE_2));
 	}
+
+	@Test
+	public void createIntoShouldFillByteArray() throws Exception {
+		RandomValueGenerator randomValueGenerator = new ArrayBasedRandomValueGenerator(
+		        new byte[][] { { RANDOM_BYTE_1, RANDOM_BYTE_2 } }, null, null, null, null, null);
+		byte[] values = new byte[3];
+		createFactory(randomValueGenerator).createInto(values, 2);
+		assertThat("Incorrect random bytes.", values, is(new byte[] { RANDOM_BYTE_1, RANDOM_BYTE_2, 0 }));
+	}
 }
@@ -71,6 +71,15 @@ public class EnumFactoryTest extends BasicFactoryTestBase<Enum<?>> {
 		assertThat("Incorrect enum.", (Color) enumFactory.create(), is(Color.BLUE));
 	}
 	
+	@Test
+	public void createShouldReturnLastEnumForRandomValuesBelowOne() throws Exception {
+		RandomValueGenerator randomValueGenerator =
+		        new ArrayBasedRandomValueGenerator(null, null, null, null, new double[] { 0.0, 0.9 }, null);
+		EnumFactory enumFactory = new EnumFactory(Color.class, randomValueGenerator);
+		assertThat("Incorrect enum.", (Color) enumFactory.create(), is(Color.RED));
+		assertThat("Incorrect enum.", (Color) enumFactory.create(), is(Color.BLUE));
+	}
+
 	@Test
 	public void verifyBean() {
 		forClass(ColorModel.class).verifyGettersAndSetters();
@@ -50,4 +50,17 @@ public class IntegerFactoryTest extends BasicFactoryTestBase<Integer> {
 		assertThat("Incorrect random Integer.", factory.create(), is(RANDOM_INT_1));
 		assertThat("Incorrect random Integer.", factory.create(), is(RANDOM_INT_2));
 	}
+
+	@Test
+	public void createIntoShouldFillIntArray() throws Exception {
+		Factory<Integer> factory = createFactory(createRandomNumberGenerator());
+		int[] values = new int[2];
+		factory.createInto(values, 2);
+		assertThat("Incorrect random ints.", values, is(new int[] { RANDOM_INT_1, RANDOM_INT_2 }));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void createIntoShouldPreventLengthBeyondIntArray() throws Exception {
+		createFactory(createRandomNumberGenerator()).createInto(new int[1], 2);
+	}
 }
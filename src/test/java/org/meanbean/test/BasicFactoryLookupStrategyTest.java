@@ -38,6 +38,7 @@ import org.meanbean.lang.Factory;
 import org.meanbean.test.beans.NonBean;
 import org.meanbean.test.beans.NullFactory;
 import org.meanbean.util.RandomValueGenerator;
+import org.meanbean.util.ServiceFactory;
 import org.meanbean.util.SimpleRandomValueGenerator;
 import org.mockito.Mock;
 import org.mockito.runners.MockitoJUnitRunner;
@@ -67,6 +68,7 @@ public class BasicFactoryLookupStrategyTest {
 
 	@Before
 	public void before() {
+		ServiceFactory.createContext(this);
 		randomValueGenerator = new SimpleRandomValueGenerator();
 		factoryCollection = new FactoryRepository();
 		factoryLookupStrategy = new BasicFactoryLookupStrategy(factoryCollection, randomValueGenerator);
@@ -27,6 +27,7 @@ import org.meanbean.bean.info.BeanInformation;
 import org.meanbean.bean.info.BeanInformationFactory;
 import org.meanbean.bean.info.JavaBeanInformationFactory;
 import org.meanbean.factories.FactoryCollection;
+import org.meanbean.factories.util.FactoryLookupStrategy;
 import org.meanbean.lang.Factory;
 import org.meanbean.test.beans.ArrayPropertyBeanWithConstructor;
 import org.meanbean.test.beans.Bean;
@@ -37,10 +38,15 @@ import org.meanbean.util.ServiceFactory;
 import org.mockito.Mock;
 import org.mockito.runners.MockitoJUnitRunner;
 
+import java.util.ArrayList;
 import java.util.Date;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
 import static org.hamcrest.Matchers.not;
 import static org.hamcrest.Matchers.nullValue;
 import static org.junit.Assert.assertThat;
@@ -168,6 +174,77 @@ public class BeanTesterTest {
 		beanTester.testBean(BadComplexBean.class, new ConfigurationBuilder().ignoreProperty("lastName").build());
 	}
 
+	@Test
+	public void testBeanShouldLookUpPropertyFactoriesOncePerBeanType() throws Exception {
+		AtomicInteger lookups = new AtomicInteger();
+		BeanTesterBuilder builder = BeanTesterBuilder.newBeanTesterBuilder();
+		FactoryLookupStrategy factoryLookupStrategy = builder.getFactoryLookupStrategy();
+		BeanTester beanTester = builder
+				.setFactoryLookupStrategy((beanInformation, propertyInformation, configuration) -> {
+					lookups.incrementAndGet();
+					return factoryLookupStrategy.getFactory(beanInformation, propertyInformation, configuration);
+				})
+				.setDefaultIterations(10)
+				.build();
+
+		beanTester.testBean(Bean.class);
+
+		assertThat("Factories should be looked up once per property.", lookups.get(), is(1));
+	}
+
+	@Test
+	public void testBeanShouldStopOnceValueSpacesAreCoveredWhenAdaptive() throws Exception {
+		FiniteValuesBean.setterCalls.set(0);
+		BeanTester beanTester = BeanTesterBuilder.newBeanTesterBuilder()
+				.setDefaultAdaptiveIterations(true)
+				.build();
+
+		beanTester.testBean(FiniteValuesBean.class);
+
+		assertThat(FiniteValuesBean.setterCalls.get(), is(lessThan(BeanTester.TEST_ITERATIONS_PER_BEAN)));
+	}
+
+	@Test
+	public void testBeanShouldPerformAllIterationsByDefault() throws Exception {
+		FiniteValuesBean.setterCalls.set(0);
+
+		beanTester.testBean(FiniteValuesBean.class);
+
+		assertThat(FiniteValuesBean.setterCalls.get(), is(BeanTester.TEST_ITERATIONS_PER_BEAN));
+	}
+
+	@Test
+	public void testBeanShouldStopOnceSampledPropertiesHaveEnoughDistinctValuesWhenAdaptive() throws Exception {
+		SampledValuesBean.setterCalls.set(0);
+		Configuration configuration = new ConfigurationBuilder()
+				.adaptiveIterations(true)
+				.build();
+
+		beanTester.testBean(SampledValuesBean.class, configuration);
+
+		assertThat(SampledValuesBean.setterCalls.get(), is(lessThan(BeanTester.TEST_ITERATIONS_PER_BEAN)));
+		assertThat(SampledValuesBean.setterCalls.get(),
+				is(greaterThanOrEqualTo(PropertyValueCoverage.DISTINCT_SAMPLES_PER_PROPERTY)));
+	}
+
+	@Test
+	public void testBeanShouldPerformAllIterationsForUnboundedPropertiesWhenAdaptive() throws Exception {
+		UnboundedValuesBean.setterCalls.set(0);
+		Configuration configuration = new ConfigurationBuilder()
+				.iterations(20)
+				.adaptiveIterations(true)
+				.build();
+
+		beanTester.testBean(UnboundedValuesBean.class, configuration);
+
+		assertThat(UnboundedValuesBean.setterCalls.get(), is(20));
+	}
+
+	@Test(expected = AssertionError.class)
+	public void testBeanShouldThrowAssertionErrorForBadGetterBeanWhenAdaptive() throws Exception {
+		beanTester.testBean(BadFiniteValuesBean.class, new ConfigurationBuilder().adaptiveIterations(true).build());
+	}
+
 	@Test
 	public void verifyCustomFactoriesFirst() {
 		verifyCustomFactory();
@@ -199,6 +276,20 @@ public class BeanTesterTest {
 		beanTester.testBean(ArrayPropertyBeanWithConstructor.class);
 	};
 
+	@Test
+	public void testBeanShouldSetSameValuesInSameOrderForSameSeed() throws Exception {
+		beanTester.testBean(RecordingBean.class);
+		List<String> firstValues = RecordingBean.drainSetValues();
+		beanTester.testBean(Bean.class);
+
+		beanTester.testBean(RecordingBean.class);
+		assertThat("Values should not depend on prior verifications.", RecordingBean.drainSetValues(),
+		        is(firstValues));
+
+		new BeanTester().testBean(RecordingBean.class);
+		assertThat("Values should not depend on the tester.", RecordingBean.drainSetValues(), is(firstValues));
+	}
+
 	// TODO TEST COMBINATIONS WITH CONFIGURATIONS AND BEAN INFORMATIONS ETC
 
 	public static class BeanWithBadGetterMethod extends Bean {
@@ -215,6 +306,136 @@ public class BeanTesterTest {
 		}
 	}
 
+	public enum Level {
+		LOW, MEDIUM, HIGH
+	}
+
+	public static class FiniteValuesBean {
+		static final AtomicInteger setterCalls = new AtomicInteger();
+		private boolean active;
+		private Level level;
+
+		public boolean isActive() {
+			return active;
+		}
+
+		public void setActive(boolean active) {
+			setterCalls.incrementAndGet();
+			this.active = active;
+		}
+
+		public Level getLevel() {
+			return level;
+		}
+
+		public void setLevel(Level level) {
+			this.level = level;
+		}
+	}
+
+	public static class BadFiniteValuesBean extends FiniteValuesBean {
+		@Override
+		public Level getLevel() {
+			return Level.LOW;
+		}
+	}
+
+	public static class UnboundedValuesBean extends FiniteValuesBean {
+		static final AtomicInteger setterCalls = new AtomicInteger();
+		private Date created;
+
+		public Date getCreated() {
+			return created;
+		}
+
+		public void setCreated(Date created) {
+			setterCalls.incrementAndGet();
+			this.created = created;
+		}
+	}
+
+	public static class SampledValuesBean extends FiniteValuesBean {
+		static final AtomicInteger setterCalls = new AtomicInteger();
+		private int count;
+		private long total;
+		private String name;
+
+		public int getCount() {
+			return count;
+		}
+
+		public void setCount(int count) {
+			setterCalls.incrementAndGet();
+			this.count = count;
+		}
+
+		public long getTotal() {
+			return total;
+		}
+
+		public void setTotal(long total) {
+			this.total = total;
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		public void setName(String name) {
+			this.name = name;
+		}
+	}
+
+	public static class RecordingBean {
+		private static final List<String> setValues = new ArrayList<>();
+		private String first;
+		private String second;
+		private String third;
+		private int fourth;
+
+		static List<String> drainSetValues() {
+			List<String> values = new ArrayList<>(setValues);
+			setValues.clear();
+			return values;
+		}
+
+		public String getFirst() {
+			return first;
+		}
+
+		public void setFirst(String first) {
+			setValues.add("first=" + first);
+			this.first = first;
+		}
+
+		public String getSecond() {
+			return second;
+		}
+
+		public void setSecond(String second) {
+			setValues.add("second=" + second);
+			this.second = second;
+		}
+
+		public String getThird() {
+			return third;
+		}
+
+		public void setThird(String third) {
+			setValues.add("third=" + third);
+			this.third = third;
+		}
+
+		public int getFourth() {
+			return fourth;
+		}
+
+		public void setFourth(int fourth) {
+			setValues.add("fourth=" + fourth);
+			this.fourth = fourth;
+		}
+	}
+
 	public static class BadComplexBean extends ComplexBean {
 		@Override
 		public String getLastName() {
@@ -24,11 +24,18 @@ import org.junit.Test;
 import org.meanbean.test.beans.ArrayPropertyBeanWithConstructor;
 import org.meanbean.test.beans.Bean;
 import org.meanbean.test.beans.NonBean;
+import org.meanbean.test.beans.PoorlyDistributedHashCodeBean;
 import org.meanbean.test.beans.domain.Company;
 import org.meanbean.test.beans.domain.EmployeeId;
 import org.meanbean.test.beans.scan.ScanBean;
+import org.meanbean.test.BeanVerificationResult.Check;
 import org.meanbean.util.RandomValueGenerator;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
 import static org.mockito.Matchers.anyString;
 import static org.mockito.Mockito.atLeastOnce;
@@ -58,6 +65,86 @@ public class BeanVerifierTest {
 		BeanVerifier.verifyBeans(EmployeeId.class, Company.class);
 	}
 
+	@Test
+	public void verifyBeansInParallel() {
+		BeanVerifier.verifyBeansInParallel(2, EmployeeId.class, Bean.class, ScanBean.class);
+	}
+
+	@Test
+	public void verifyBeansInParallelReportsAllFailures() {
+		assertThatCode(() -> {
+			BeanVerifier.verifyBeansInParallel(2, Company.class, EmployeeId.class, NonBean.class);
+		}).isInstanceOf(AssertionError.class)
+				.hasMessageContaining("Cannot verify 2 of 3 bean types")
+				.hasMessageContaining(Company.class.getName())
+				.hasMessageContaining(NonBean.class.getName());
+	}
+
+	@Test
+	public void verifyPackageInParallel() {
+		BeanVerifier.verifyBeansInParallelIn(ScanBean.class.getPackage().getName(), 2);
+	}
+
+	@Test
+	public void verificationResultsOfPassingBean() {
+		List<BeanVerificationResult> results = BeanVerifier.verificationResultsOf(EmployeeId.class)
+				.collect(Collectors.toList());
+
+		assertThat(results)
+				.extracting(BeanVerificationResult::getCheck)
+				.containsExactly(Check.GETTERS_AND_SETTERS, Check.EQUALS_AND_HASH_CODE, Check.TO_STRING);
+		assertThat(results)
+				.allMatch(BeanVerificationResult::isSuccess)
+				.allMatch(result -> result.getBeanClass() == EmployeeId.class)
+				.allMatch(result -> !result.getDuration().isNegative());
+	}
+
+	@Test
+	public void verificationResultsContinueAfterFailures() {
+		List<BeanVerificationResult> results = BeanVerifier.verificationResultsOf(Company.class, EmployeeId.class)
+				.collect(Collectors.toList());
+
+		assertThat(results).hasSize(6);
+		BeanVerificationResult equalsResult = results.get(1);
+		assertThat(equalsResult.getBeanClass()).isEqualTo(Company.class);
+		assertThat(equalsResult.getCheck()).isEqualTo(Check.EQUALS_AND_HASH_CODE);
+		assertThat(equalsResult.isSuccess()).isFalse();
+		assertThat(equalsResult.getFailure()).isInstanceOf(AssertionError.class);
+		assertThat(results.subList(3, 6)).allMatch(BeanVerificationResult::isSuccess);
+	}
+
+	@Test
+	public void verificationResultsAreComputedLazily() {
+		List<BeanVerificationResult> results = new ArrayList<>();
+
+		BeanVerifier.verificationResultsOf(EmployeeId.class, NonBean.class)
+				.peek(results::add)
+				.filter(result -> !result.isSuccess())
+				.findFirst();
+
+		assertThat(results).hasSize(4);
+		assertThat(results.get(3).getBeanClass()).isEqualTo(NonBean.class);
+	}
+
+	@Test
+	public void verifyBeansReportsEachResult() {
+		List<BeanVerificationResult> results = new ArrayList<>();
+
+		BeanVerifier.verifyBeans(results::add, NonBean.class, EmployeeId.class);
+
+		assertThat(results)
+				.extracting(BeanVerificationResult::getBeanClass)
+				.containsExactly(NonBean.class, NonBean.class, NonBean.class,
+						EmployeeId.class, EmployeeId.class, EmployeeId.class);
+	}
+
+	@Test
+	public void verificationResultsInPackage() {
+		assertThat(BeanVerifier.verificationResultsIn(ScanBean.class.getPackage().getName()))
+				.isNotEmpty()
+				.allMatch(BeanVerificationResult::isSuccess);
+	}
+
 	@Test
 	public void verifyJavaBean() {
 		BeanVerifier.forClass(Company.class)
@@ -152,6 +239,19 @@ public class BeanVerifierTest {
 				.verifyEqualsAndHashCode();
 	};
 
+	@Test
+	public void verifyHashCodeDistributionOnlyWhenThresholdIsSet() {
+		BeanVerifier.forClass(PoorlyDistributedHashCodeBean.class)
+				.verifyEqualsAndHashCode();
+
+		assertThatCode(() -> {
+			BeanVerifier.forClass(PoorlyDistributedHashCodeBean.class)
+					.withSettings(settings -> settings.setHashCodeDistributionThreshold(0.5))
+					.verifyEqualsAndHashCode();
+		}).isInstanceOf(AssertionError.class)
+				.hasMessageStartingWith("hashCode distribution quality");
+	}
+
 	@Test
 	public void verifyPackage() {
 		BeanVerifier.verifyBeansIn(ScanBean.class.getPackage());
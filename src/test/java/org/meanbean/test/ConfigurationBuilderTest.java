@@ -55,6 +55,33 @@ public class ConfigurationBuilderTest {
 		new ConfigurationBuilder().iterations(-1);
 	}
 
+	@Test
+	public void consistencyChecksShouldSetConsistencyChecksOnConfiguration() throws Exception {
+		Configuration configuration = new ConfigurationBuilder().consistencyChecks(7).build();
+		assertThat("Consistency checks are wrong.", configuration.getConsistencyChecks(), is(7));
+	}
+
+	@Test
+	public void consistencyChecksShouldNotBeOverriddenByDefault() throws Exception {
+		Configuration configuration = new ConfigurationBuilder().build();
+		assertThat("Consistency checks should not be overridden.", configuration.hasConsistencyChecksOverride(),
+		        is(false));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void consistencyChecksShouldPreventZeroConsistencyChecks() {
+		new ConfigurationBuilder().consistencyChecks(0);
+	}
+
+	@Test
+	public void profileShouldSetIterationsAndConsistencyChecksOnConfiguration() throws Exception {
+		Configuration configuration = new ConfigurationBuilder().profile(VerificationProfile.THOROUGH).build();
+		assertThat("Iterations are wrong.", configuration.getIterations(),
+		        is(VerificationProfile.THOROUGH.getIterations()));
+		assertThat("Consistency checks are wrong.", configuration.getConsistencyChecks(),
+		        is(VerificationProfile.THOROUGH.getConsistencyChecks()));
+	}
+
 	@Test
 	public void ignorePropertyShouldReturnTrueForPropertiesToIgnore() {
 		ConfigurationBuilder configurationBuilder = ConfigurationBuilderFactory.create();
@@ -31,6 +31,13 @@ import org.meanbean.test.beans.NonReflexiveBeanFactory;
 import org.meanbean.test.beans.NullAcceptingBeanFactory;
 import org.meanbean.test.beans.NullEquivalentFactory;
 
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
 public class EqualsMethodContractVerifierTest {
 
 	private final EqualsMethodContractVerifier verifier = new EqualsMethodContractVerifier();
@@ -141,6 +148,30 @@ public class EqualsMethodContractVerifierTest {
 		verifier.verifyEqualsConsistent(new BeanFactory());
 	}
 
+	@Test
+	public void verifyEqualsConsistentShouldInvokeEqualsConfiguredNumberOfTimes() throws Exception {
+		// equals first returns false on invocation [97], which only 98 or more consistency checks reach
+		new EqualsMethodContractVerifier(97).verifyEqualsConsistent(new CounterDrivenEqualsBeanFactory(97));
+
+		Throwable thrown = catchThrowable(() -> new EqualsMethodContractVerifier(98)
+				.verifyEqualsConsistent(new CounterDrivenEqualsBeanFactory(97)));
+		assertThat(thrown).isInstanceOf(AssertionError.class)
+				.hasMessage("equals is not consistent on invocation [97].");
+	}
+
+	@Test
+	public void verifyEqualsContractShouldUseSpecifiedConsistencyChecks() throws Exception {
+		verifier.verifyEqualsContract(new CounterDrivenEqualsBeanFactory(200), 150);
+
+		Throwable thrown = catchThrowable(() -> verifier.verifyEqualsContract(new CounterDrivenEqualsBeanFactory(200), 1000));
+		assertThat(thrown).isInstanceOf(AssertionError.class);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void constructorShouldPreventZeroConsistencyChecks() throws Exception {
+		new EqualsMethodContractVerifier(0);
+	}
+
 	// Null ------------------------------------------------------------------------------------------------------------
 
 	@Test(expected = IllegalArgumentException.class)
@@ -222,4 +253,45 @@ public class EqualsMethodContractVerifierTest {
 	public void verifyEqualsShouldThrowAssertionErrorWhenEqualsIsTrueForDifferentType() throws Exception {
 		verifier.verifyEqualsMethod(new DifferentTypeAcceptingBeanFactory());
 	}
+
+	// Contract --------------------------------------------------------------------------------------------------------
+
+	@Test
+	public void verifyEqualsContractShouldCreateThreeObjects() throws Exception {
+		AtomicInteger created = new AtomicInteger();
+		BeanFactory beanFactory = new BeanFactory();
+		verifier.verifyEqualsContract(() -> {
+			created.incrementAndGet();
+			return beanFactory.create();
+		});
+		assertThat(created.get()).isEqualTo(3);
+	}
+
+	@Test
+	public void verifyEqualsContractShouldFailAsEachItemWould() throws Exception {
+		List<EquivalentFactory<?>> factories = Arrays.asList(
+				new NullEquivalentFactory(),
+				new NonReflexiveBeanFactory(),
+				new FieldDrivenEqualsBeanFactory(false),
+				new NullAcceptingBeanFactory(),
+				new DifferentTypeAcceptingBeanFactory());
+		for (EquivalentFactory<?> factory : factories) {
+			Throwable expected = catchThrowable(() -> verifyEachItem(factory));
+			Throwable actual = catchThrowable(() -> verifier.verifyEqualsContract(factory));
+
+			assertThat(expected).isNotNull();
+			assertThat(actual)
+					.isExactlyInstanceOf(expected.getClass())
+					.hasMessage(expected.getMessage());
+		}
+	}
+
+	private void verifyEachItem(EquivalentFactory<?> factory) {
+		verifier.verifyEqualsReflexive(factory);
+		verifier.verifyEqualsSymmetric(factory);
+		verifier.verifyEqualsTransitive(factory);
+		verifier.verifyEqualsConsistent(factory);
+		verifier.verifyEqualsNull(factory);
+		verifier.verifyEqualsDifferentType(factory);
+	}
 }
@@ -412,4 +412,25 @@ public class EqualsMethodTesterTest {
 					.verifyEqualsAndHashCode();
 		}
 	}
+
+	@Test
+	public void profileEqualsMethodShouldReportCostPerOperation() throws Exception {
+		MethodCost cost = new EqualsMethodTester().profileEqualsMethod(MultiPropertyBean.class);
+		assertThat(cost.getBeanClass(), is((Object) MultiPropertyBean.class));
+		assertThat(cost.getMethodName(), is("equals"));
+		assertThat(cost.getNanosPerOperation() > 0, is(true));
+		assertThat(cost.isScalingWithCollectionSize(), is(false));
+	}
+
+	@Test
+	public void profileEqualsMethodShouldFlagScalingWithCollectionSize() throws Exception {
+		MethodCost cost =
+		        new EqualsMethodTester().profileEqualsMethod(HashCodeMethodTesterTest.UnhashedCollectionBean.class);
+		assertThat(cost.isScalingWithCollectionSize(), is(true));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void profileEqualsMethodShouldPreventNullClass() throws Exception {
+		new EqualsMethodTester().profileEqualsMethod(null);
+	}
 }
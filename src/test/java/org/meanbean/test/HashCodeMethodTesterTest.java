@@ -23,6 +23,7 @@ package org.meanbean.test;
 import org.junit.Test;
 import org.meanbean.factories.ObjectCreationException;
 import org.meanbean.lang.EquivalentFactory;
+import org.meanbean.lang.Factory;
 import org.meanbean.test.beans.Bean;
 import org.meanbean.test.beans.BeanFactory;
 import org.meanbean.test.beans.ClassIncrementalHashCodeBean;
@@ -33,6 +34,15 @@ import org.meanbean.test.beans.InstanceIncrementalHashCodeBean;
 import org.meanbean.test.beans.NonBean;
 import org.meanbean.test.beans.NonEqualBean;
 import org.meanbean.test.beans.NullEquivalentFactory;
+import org.meanbean.test.beans.PoorlyDistributedHashCodeBean;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.junit.Assume.assumeTrue;
 
 public class HashCodeMethodTesterTest {
 
@@ -167,4 +177,188 @@ public class HashCodeMethodTesterTest {
 	public void testHashCodeMethodByClassShouldNotThrowAssertionErrorWhenHashCodeIsCorrect() throws Exception {
 		tester.testHashCodeMethod(Bean.class);
 	}
+
+	@Test
+	public void testHashCodeConsistentShouldInvokeHashCodeConfiguredNumberOfTimes() throws Exception {
+		AtomicInteger invocations = new AtomicInteger();
+		HashCodeMethodTester configuredTester = BeanTesterBuilder.newBeanTesterBuilder()
+				.setDefaultConsistencyChecks(5)
+				.buildHashCodeMethodTester();
+		configuredTester.testHashCodeConsistent(() -> new Bean() {
+			@Override
+			public int hashCode() {
+				invocations.incrementAndGet();
+				return super.hashCode();
+			}
+		});
+		// once for reference, then once per consistency check
+		assertThat(invocations.get()).isEqualTo(6);
+	}
+
+	// Distribution ----------------------------------------------------------------------------------------------------
+
+	@Test
+	public void testHashCodeDistributionShouldNotThrowAssertionErrorWhenHashCodesAreWellDistributed() throws Exception {
+		tester.testHashCodeDistribution(Bean.class, 1000, 0.75);
+	}
+
+	@Test
+	public void testHashCodeDistributionShouldThrowAssertionErrorWhenHashCodesCollide() throws Exception {
+		assertThatCode(() -> tester.testHashCodeDistribution(PoorlyDistributedHashCodeBean.class, 1000, 0.5))
+				.isInstanceOf(AssertionError.class)
+				.hasMessageStartingWith("hashCode distribution quality [")
+				.hasMessageContaining("longest bucket");
+	}
+
+	@Test
+	public void testHashCodeDistributionShouldThrowAssertionErrorWhenHashCodeIsConstant() throws Exception {
+		Factory<Object> factory = () -> new FieldDrivenHashCodeBean(42) {
+			@Override
+			public boolean equals(Object obj) {
+				return this == obj;
+			}
+		};
+		assertThatCode(() -> tester.testHashCodeDistribution(factory, 100, 0.1))
+				.isInstanceOf(AssertionError.class)
+				.hasMessageContaining("[100] distinct objects");
+	}
+
+	@Test
+	public void testHashCodeDistributionShouldDisregardEqualObjects() throws Exception {
+		AtomicInteger counter = new AtomicInteger();
+		// only two distinct objects, which is not enough to fail a well distributed hash code
+		tester.testHashCodeDistribution(() -> counter.getAndIncrement() % 2 == 0, 1000, 1);
+	}
+
+	@Test
+	public void testHashCodeDistributionShouldAcceptThresholdOfZero() throws Exception {
+		tester.testHashCodeDistribution(PoorlyDistributedHashCodeBean.class, 100, 0);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testHashCodeDistributionShouldPreventNullClass() throws Exception {
+		tester.testHashCodeDistribution((Class<?>) null, 100, 0.5);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testHashCodeDistributionShouldPreventFactoryThatCreatesNullObjects() throws Exception {
+		tester.testHashCodeDistribution(() -> null, 100, 0.5);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testHashCodeDistributionShouldPreventNonPositiveSampleSize() throws Exception {
+		tester.testHashCodeDistribution(Bean.class, 0, 0.5);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testHashCodeDistributionShouldPreventThresholdAboveOne() throws Exception {
+		tester.testHashCodeDistribution(Bean.class, 100, 1.5);
+	}
+
+	// Cost ------------------------------------------------------------------------------------------------------------
+
+	@Test
+	public void profileHashCodeMethodShouldReportCostPerOperation() throws Exception {
+		MethodCost cost = tester.profileHashCodeMethod(Bean.class);
+		assertThat(cost.getBeanClass()).isEqualTo(Bean.class);
+		assertThat(cost.getMethodName()).isEqualTo("hashCode");
+		assertThat(cost.getNanosPerOperation()).isPositive();
+		assertThat(cost.isScalingWithCollectionSize()).isFalse();
+		assertThat(cost.toString()).startsWith(Bean.class.getName() + ".hashCode: ").contains(" ns/op, ");
+	}
+
+	@Test
+	public void profileHashCodeMethodShouldFlagAllocation() throws Exception {
+		MethodCost cost = tester.profileHashCodeMethod(AllocatingHashCodeBean.class);
+		assumeTrue("allocation cannot be measured on this JVM", cost.getBytesPerOperation() >= 0);
+		assertThat(cost.isAllocating()).isTrue();
+		assertThat(cost.isFlagged()).isTrue();
+		assertThat(cost.toString()).contains("allocates");
+	}
+
+	@Test
+	public void profileHashCodeMethodShouldFlagScalingWithCollectionSize() throws Exception {
+		MethodCost cost = tester.profileHashCodeMethod(CollectionHashCodeBean.class);
+		assertThat(cost.isScalingWithCollectionSize()).isTrue();
+		assertThat(cost.toString()).contains("scales with collection size");
+	}
+
+	@Test
+	public void profileHashCodeMethodShouldNotFlagScalingWhenCollectionIsNotHashed() throws Exception {
+		MethodCost cost = tester.profileHashCodeMethod(UnhashedCollectionBean.class);
+		assertThat(cost.isScalingWithCollectionSize()).isFalse();
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void profileHashCodeMethodShouldPreventNullClass() throws Exception {
+		tester.profileHashCodeMethod(null);
+	}
+
+	/** Bean whose hashCode builds its string representation on every call. */
+	public static class AllocatingHashCodeBean extends Bean {
+
+		@Override
+		public int hashCode() {
+			return toString().hashCode();
+		}
+	}
+
+	/** Bean whose hashCode iterates over its collection property. */
+	public static class CollectionHashCodeBean {
+		private List<String> names;
+
+		public List<String> getNames() {
+			return names;
+		}
+
+		public void setNames(List<String> names) {
+			this.names = names;
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hashCode(names);
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			return obj instanceof CollectionHashCodeBean && Objects.equals(names, ((CollectionHashCodeBean) obj).names);
+		}
+	}
+
+	/** Bean whose hashCode only uses its id, but whose equals compares its collection property as well. */
+	public static class UnhashedCollectionBean {
+		private int id;
+		private List<String> names;
+
+		public int getId() {
+			return id;
+		}
+
+		public void setId(int id) {
+			this.id = id;
+		}
+
+		public List<String> getNames() {
+			return names;
+		}
+
+		public void setNames(List<String> names) {
+			this.names = names;
+		}
+
+		@Override
+		public int hashCode() {
+			return id;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (!(obj instanceof UnhashedCollectionBean)) {
+				return false;
+			}
+			UnhashedCollectionBean other = (UnhashedCollectionBean) obj;
+			return id == other.id && Objects.equals(names, other.names);
+		}
+	}
 }
@@ -43,6 +43,7 @@ import org.meanbean.test.beans.MultiPropertyBeanFactory;
 import org.meanbean.test.beans.NonBean;
 import org.meanbean.test.beans.NullEquivalentFactory;
 import org.meanbean.test.beans.SelfReferencingBeanFactory;
+import org.meanbean.util.ServiceFactory;
 
 import java.util.Arrays;
 
@@ -55,6 +56,10 @@ import static org.junit.Assert.fail;
 
 public class PropertyBasedEqualsMethodPropertySignificanceVerifierTest {
 
+	{
+		ServiceFactory.createContext(this);
+	}
+
 	private final FactoryCollection factoryCollection = FactoryCollection.getInstance();
 	private final PropertyBasedEqualsMethodPropertySignificanceVerifier verifier =
 	        new PropertyBasedEqualsMethodPropertySignificanceVerifier();
@@ -361,4 +366,150 @@ public class PropertyBasedEqualsMethodPropertySignificanceVerifierTest {
 		}).build();
 		verifier.verifyEqualsMethod(new BeanFactory(), configuration);
 	}
+
+	@Test
+	public void verifyEqualsMethodWithIterationsShouldCreateOnePairOfObjectsPerIteration() throws Exception {
+		MultiPropertyBeanFactory beanFactory = new MultiPropertyBeanFactory();
+		InvocationCountingFactoryWrapper<MultiPropertyBean> factory =
+		        new InvocationCountingFactoryWrapper<MultiPropertyBean>(beanFactory::create);
+		verifier.verifyEqualsMethod(factory::create, null, 10);
+		assertThat("objects were not shared between properties", factory.getInvocationCount(), is(20));
+	}
+
+	@Test
+	public void verifyEqualsMethodWithIterationsShouldUseOverrideFactoryOncePerIteration() throws Exception {
+		Factory<String> stringFactory = factoryCollection.getFactory(String.class);
+		InvocationCountingFactoryWrapper<String> factory = new InvocationCountingFactoryWrapper<String>(stringFactory);
+		Configuration configuration = new ConfigurationBuilder().overrideFactory("name", factory).build();
+		verifier.verifyEqualsMethod(new BeanFactory(), configuration, 10);
+		assertThat("custom factory was not used", factory.getInvocationCount(), is(10));
+	}
+
+	@Test
+	public void verifyEqualsMethodWithIterationsShouldNotCreateObjectsForNoIterations() throws Exception {
+		InvocationCountingFactoryWrapper<Bean> factory = new InvocationCountingFactoryWrapper<Bean>(new BeanFactory()::create);
+		verifier.verifyEqualsMethod(factory::create, null, 0);
+		assertThat(factory.getInvocationCount(), is(0));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void verifyEqualsMethodWithIterationsShouldPreventFactoryThatCreatesNullObjects() throws Exception {
+		verifier.verifyEqualsMethod(new NullEquivalentFactory(), null, 10);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void verifyEqualsMethodWithIterationsShouldPreventFactoryThatCreatesNonEqualObjects() throws Exception {
+		verifier.verifyEqualsMethod(new EquivalentFactory<FieldDrivenEqualsBean>() {
+			private int counter;
+
+			@Override
+			public FieldDrivenEqualsBean create() {
+				// 2nd object created by factory always returns false from equals(); others always return true
+				return new FieldDrivenEqualsBean(counter++ != 1);
+			}
+		}, null, 10);
+	}
+
+	@Test(expected = AssertionError.class)
+	public void verifyEqualsMethodWithIterationsShouldThrowAssertionErrorWhenObjectsStillEqualForSignificantProperty()
+	        throws Exception {
+		verifier.verifyEqualsMethod(new FieldDrivenEqualsBeanFactory(true),
+		        new ConfigurationBuilder().overrideFactory("name", new IncrementalStringFactory()).build(), 10);
+	}
+
+	@Test
+	public void verifyEqualsMethodWithIterationsShouldCreateNewObjectsWhenPropertyCannotBeRestored() throws Exception {
+		InvocationCountingFactoryWrapper<SideEffectBean> factory =
+		        new InvocationCountingFactoryWrapper<SideEffectBean>(SideEffectBean::new);
+		verifier.verifyEqualsMethod(factory::create, null, 1);
+		assertThat("objects were not recreated", factory.getInvocationCount(), is(4));
+	}
+
+	@Test
+	public void verifyEqualsMethodWithIterationsShouldCreateNewObjectsWhenInsignificantPropertyCannotBeRestored()
+	        throws Exception {
+		InvocationCountingFactoryWrapper<InsignificantSideEffectBean> factory =
+		        new InvocationCountingFactoryWrapper<InsignificantSideEffectBean>(InsignificantSideEffectBean::new);
+		verifier.verifyEqualsMethod(factory::create, null, 1, "counter");
+		assertThat("objects were not recreated", factory.getInvocationCount(), is(4));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void verifyEqualsMethodWithIterationsShouldPreventFactoryThatLaterCreatesNullObjects() throws Exception {
+		verifier.verifyEqualsMethod(new EquivalentFactory<Bean>() {
+			private final BeanFactory beanFactory = new BeanFactory();
+			private int counter;
+
+			@Override
+			public Bean create() {
+				// objects created after the first pair are null
+				return counter++ < 2 ? beanFactory.create() : null;
+			}
+		}, null, 10);
+	}
+
+	/** Bean whose name setter also changes its significant counter, so setting the name back does not restore it. */
+	public static class SideEffectBean {
+		private String name = "NAME";
+		private int counter;
+
+		public String getName() {
+			return name;
+		}
+
+		public void setName(String name) {
+			this.name = name;
+			counter++;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (!(obj instanceof SideEffectBean)) {
+				return false;
+			}
+			SideEffectBean other = (SideEffectBean) obj;
+			return name.equals(other.name) && counter == other.counter;
+		}
+
+		@Override
+		public int hashCode() {
+			return name.hashCode() * 31 + counter;
+		}
+	}
+
+	/** Bean whose name setter also changes its insignificant counter, so the pair stays equal but differs. */
+	public static class InsignificantSideEffectBean {
+		private String name = "NAME";
+		private int counter;
+
+		public String getName() {
+			return name;
+		}
+
+		public void setName(String name) {
+			this.name = name;
+			counter++;
+		}
+
+		public int getCounter() {
+			return counter;
+		}
+
+		public void setCounter(int counter) {
+			this.counter = counter;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (!(obj instanceof InsignificantSideEffectBean)) {
+				return false;
+			}
+			return name.equals(((InsignificantSideEffectBean) obj).name);
+		}
+
+		@Override
+		public int hashCode() {
+			return name.hashCode();
+		}
+	}
 }
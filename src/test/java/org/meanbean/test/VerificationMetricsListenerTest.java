@@ -0,0 +1,143 @@
+/*-
+ * ​​​
+ * meanbean
+ * ⁣⁣⁣
+ * Copyright (C) 2010 - 2020 the original author or authors.
+ * ⁣⁣⁣
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ﻿﻿﻿﻿﻿
+ */
+
+package org.meanbean.test;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.meanbean.test.VerificationMetricsListener.Phase;
+import org.meanbean.test.beans.domain.EmployeeId;
+
+import java.io.File;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class VerificationMetricsListenerTest {
+
+	@Rule
+	public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+	private ClassLoader originalClassLoader;
+
+	@Before
+	public void setUp() {
+		originalClassLoader = Thread.currentThread().getContextClassLoader();
+		RecordingListener.events.clear();
+	}
+
+	@After
+	public void tearDown() {
+		Thread.currentThread().setContextClassLoader(originalClassLoader);
+	}
+
+	@Test
+	public void noListenerIsRegisteredByDefault() {
+		new BeanTester();
+
+		assertThat(VerificationMetricsListener.getInstances()).isEmpty();
+	}
+
+	@Test
+	public void registeredListenerShouldReceivePhasesAndProperties() throws Exception {
+		registerRecordingListener();
+
+		BeanVerifier.forClass(EmployeeId.class)
+				.withSettings(settings -> settings.setDefaultIterations(2))
+				.verify();
+
+		assertThat(RecordingListener.events)
+				.contains("GETTERS_AND_SETTERS " + EmployeeId.class.getName(),
+						"BEAN_CREATION " + EmployeeId.class.getName(),
+						"EQUALS " + EmployeeId.class.getName(),
+						"HASH_CODE " + EmployeeId.class.getName(),
+						"TO_STRING " + EmployeeId.class.getName(),
+						"property id");
+		String beanCreation = "BEAN_CREATION " + EmployeeId.class.getName();
+		assertThat(RecordingListener.events)
+				.filteredOn(beanCreation::equals)
+				.hasSize(2);
+	}
+
+	@Test
+	public void failingPhaseShouldStillBeReported() throws Exception {
+		registerRecordingListener();
+
+		try {
+			new ToStringMethodTester().testToStringMethod(Object.class);
+		} catch (AssertionError expected) {
+		}
+
+		assertThat(RecordingListener.events).containsExactly("TO_STRING " + Object.class.getName());
+	}
+
+	@Test
+	public void registeredListenerShouldReceiveMethodCostsWhenProfiling() throws Exception {
+		registerRecordingListener();
+
+		BeanVerifier.forClass(EmployeeId.class)
+				.withSettings(settings -> settings.setMethodCostProfiling(true))
+				.verifyEqualsAndHashCode();
+
+		assertThat(RecordingListener.events)
+				.contains("equals cost " + EmployeeId.class.getName(),
+						"hashCode cost " + EmployeeId.class.getName());
+	}
+
+	private void registerRecordingListener() throws Exception {
+		File services = new File(temporaryFolder.getRoot(), "META-INF/services");
+		services.mkdirs();
+		Files.write(new File(services, VerificationMetricsListener.class.getName()).toPath(),
+				singletonList(RecordingListener.class.getName()), StandardCharsets.UTF_8);
+		URLClassLoader classLoader = new URLClassLoader(new URL[] { temporaryFolder.getRoot().toURI().toURL() },
+				originalClassLoader);
+		Thread.currentThread().setContextClassLoader(classLoader);
+	}
+
+	public static class RecordingListener implements VerificationMetricsListener {
+
+		static final List<String> events = new CopyOnWriteArrayList<>();
+
+		@Override
+		public void phaseCompleted(Class<?> beanClass, Phase phase, long nanos) {
+			assertThat(nanos).isNotNegative();
+			events.add(phase + " " + beanClass.getName());
+		}
+
+		@Override
+		public void propertyTested(Class<?> beanClass, String propertyName, long nanos) {
+			events.add("property " + propertyName);
+		}
+
+		@Override
+		public void methodProfiled(MethodCost cost) {
+			events.add(cost.getMethodName() + " cost " + cost.getBeanClass().getName());
+		}
+	}
+}
@@ -0,0 +1,80 @@
+/*-
+ * ​​​
+ * meanbean
+ * ⁣⁣⁣
+ * Copyright (C) 2010 - 2020 the original author or authors.
+ * ⁣⁣⁣
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ﻿﻿﻿﻿﻿
+ */
+
+package org.meanbean.test;
+
+import org.junit.After;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+public class VerificationProfileTest {
+
+	@After
+	public void clearProfileProperty() {
+		System.clearProperty(VerificationProfile.PROFILE_PROPERTY);
+	}
+
+	@Test
+	public void getDefaultShouldReturnStandardWhenPropertyIsNotSet() throws Exception {
+		System.clearProperty(VerificationProfile.PROFILE_PROPERTY);
+		assertThat(VerificationProfile.getDefault()).isEqualTo(VerificationProfile.STANDARD);
+	}
+
+	@Test
+	public void getDefaultShouldReturnNamedProfileIgnoringCase() throws Exception {
+		System.setProperty(VerificationProfile.PROFILE_PROPERTY, " Thorough ");
+		assertThat(VerificationProfile.getDefault()).isEqualTo(VerificationProfile.THOROUGH);
+	}
+
+	@Test
+	public void getDefaultShouldRejectUnknownProfile() throws Exception {
+		System.setProperty(VerificationProfile.PROFILE_PROPERTY, "quick");
+		Throwable thrown = catchThrowable(VerificationProfile::getDefault);
+		assertThat(thrown).isInstanceOf(IllegalArgumentException.class)
+				.hasMessageContaining(VerificationProfile.PROFILE_PROPERTY)
+				.hasMessageContaining("[FAST, STANDARD, THOROUGH]")
+				.hasMessageContaining("[quick]");
+	}
+
+	@Test
+	public void standardProfileShouldKeepExistingBudgets() throws Exception {
+		assertThat(VerificationProfile.STANDARD.getIterations()).isEqualTo(BeanTester.TEST_ITERATIONS_PER_BEAN);
+		assertThat(VerificationProfile.STANDARD.getConsistencyChecks())
+				.isEqualTo(Configuration.CONSISTENCY_CHECKS_PER_BEAN);
+	}
+
+	@Test
+	public void defaultConfigurationShouldUsePropertyProfile() throws Exception {
+		System.setProperty(VerificationProfile.PROFILE_PROPERTY, "fast");
+		Configuration configuration = Configuration.defaultConfiguration();
+		assertThat(configuration.getIterations()).isEqualTo(VerificationProfile.FAST.getIterations());
+		assertThat(configuration.getConsistencyChecks()).isEqualTo(VerificationProfile.FAST.getConsistencyChecks());
+	}
+
+	@Test
+	public void setProfileShouldSetDefaultIterationsAndConsistencyChecks() throws Exception {
+		BeanTesterBuilder builder = BeanTesterBuilder.newBeanTesterBuilder()
+				.setProfile(VerificationProfile.FAST);
+		assertThat(builder.getDefaultIterations()).isEqualTo(VerificationProfile.FAST.getIterations());
+		assertThat(builder.getDefaultConsistencyChecks()).isEqualTo(VerificationProfile.FAST.getConsistencyChecks());
+	}
+}
@@ -0,0 +1,52 @@
+/*-
+ * ​​​
+ * meanbean
+ * ⁣⁣⁣
+ * Copyright (C) 2010 - 2020 the original author or authors.
+ * ⁣⁣⁣
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ﻿﻿﻿﻿﻿
+ */
+
+package org.meanbean.test.internal;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.meanbean.util.ServiceFactory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SideEffectDetectorFactoryTest {
+
+	@Before
+	public void setUp() {
+		ServiceFactory.createContext(this);
+	}
+
+	@Test
+	public void getInstanceIsCachedPerContext() {
+		assertThat(SideEffectDetectorFactory.getInstance())
+				.isSameAs(SideEffectDetectorFactory.getInstance());
+	}
+
+	@Test
+	public void createReturnsNewDetectors() {
+		SideEffectDetectorFactory factory = SideEffectDetectorFactory.getInstance();
+
+		SideEffectDetector detector1 = factory.create();
+		SideEffectDetector detector2 = factory.create();
+
+		assertThat(detector1).isInstanceOf(SideEffectDetectorImpl.class);
+		assertThat(detector1).isNotSameAs(detector2);
+	}
+}
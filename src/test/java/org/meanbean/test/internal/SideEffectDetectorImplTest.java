@@ -0,0 +1,96 @@
+package org.meanbean.test.internal;
+
+import org.junit.Test;
+import org.meanbean.bean.info.BeanInformation;
+import org.meanbean.bean.info.JavaBeanInformationFactory;
+import org.meanbean.bean.info.PropertyInformation;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+public class SideEffectDetectorImplTest {
+
+    private final BeanInformation beanInformation = new JavaBeanInformationFactory().create(CountingBean.class);
+
+    @Test
+    public void detectsSideEffectOnOtherProperty() throws Exception {
+        CountingBean bean = new CountingBean();
+        bean.setTitle("title");
+        SideEffectDetectorImpl detector = new SideEffectDetectorImpl();
+        List<PropertyInformation> properties = detector.init(bean, new ArrayList<>(beanInformation.getProperties()));
+        PropertyInformation name = find(properties, "name");
+
+        detector.beforeTestProperty(name, EqualityTest.LOGICAL);
+        name.setter().set(bean, "changed");
+
+        assertThatCode(detector::detectAfterTestProperty)
+                .isInstanceOf(AssertionError.class)
+                .hasMessageContaining("Property [name] appears to have a side-effect on another property [title]");
+    }
+
+    @Test
+    public void readsEachPropertyOncePerTestedProperty() throws Exception {
+        CountingBean bean = new CountingBean();
+        SideEffectDetectorImpl detector = new SideEffectDetectorImpl();
+        List<PropertyInformation> properties = detector.init(bean, new ArrayList<>(beanInformation.getProperties()));
+
+        PropertyInformation title = find(properties, "title");
+        detector.beforeTestProperty(title, EqualityTest.LOGICAL);
+        title.setter().set(bean, "title");
+        detector.detectAfterTestProperty();
+
+        assertThat(bean.nameReads).isEqualTo(2);
+
+        // values read after the previous property are reused as the values before this one
+        detector.beforeTestProperty(title, EqualityTest.LOGICAL);
+        detector.detectAfterTestProperty();
+
+        assertThat(bean.nameReads).isEqualTo(3);
+    }
+
+    @Test
+    public void ordersPropertiesWithGivenRandom() throws Exception {
+        List<PropertyInformation> first = new SideEffectDetectorImpl()
+                .init(new CountingBean(), new ArrayList<>(beanInformation.getProperties()), new Random(42));
+        List<PropertyInformation> second = new SideEffectDetectorImpl()
+                .init(new CountingBean(), new ArrayList<>(beanInformation.getProperties()), new Random(42));
+
+        assertThat(second).containsExactlyElementsOf(first);
+    }
+
+    private static PropertyInformation find(List<PropertyInformation> properties, String name) {
+        return properties.stream()
+                .filter(property -> property.getName().equals(name))
+                .findFirst()
+                .get();
+    }
+
+    public static class CountingBean {
+        private String name;
+        private String title;
+        private int nameReads;
+
+        public String getName() {
+            nameReads++;
+            return name;
+        }
+
+        // the setter writes to two fields
+        public void setName(String name) {
+            this.name = name;
+            this.title = name;
+        }
+
+        public String getTitle() {
+            return title;
+        }
+
+        public void setTitle(String title) {
+            this.title = title;
+        }
+    }
+}
@@ -0,0 +1,92 @@
+/*-
+ * ​​​
+ * meanbean
+ * ⁣⁣⁣
+ * Copyright (C) 2010 - 2020 the original author or authors.
+ * ⁣⁣⁣
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ﻿﻿﻿﻿﻿
+ */
+
+package org.meanbean.util;
+
+import org.junit.Test;
+import org.meanbean.test.beans.domain.Company;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Serializable;
+import java.util.AbstractList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ClassFileHeaderTest {
+
+	@Test
+	public void concreteClassShouldBeConcrete() throws Exception {
+		assertThat(headerOf(Company.class).isConcrete()).isTrue();
+	}
+
+	@Test
+	public void enumShouldBeConcrete() throws Exception {
+		assertThat(headerOf(Plain.class).isConcrete()).isTrue();
+	}
+
+	@Test
+	public void abstractClassShouldNotBeConcrete() throws Exception {
+		assertThat(headerOf(AbstractList.class).isConcrete()).isFalse();
+	}
+
+	@Test
+	public void interfaceShouldNotBeConcrete() throws Exception {
+		assertThat(headerOf(Serializable.class).isConcrete()).isFalse();
+	}
+
+	@Test
+	public void headerWithLongAndDoubleConstantsShouldBeRead() throws Exception {
+		assertThat(headerOf(Constants.class).isConcrete()).isTrue();
+	}
+
+	@Test(expected = IOException.class)
+	public void readShouldRejectNonClassFile() throws Exception {
+		ClassFileHeader.read(new ByteArrayInputStream(new byte[] { 1, 2, 3, 4, 5, 6, 7, 8 }));
+	}
+
+	@Test(expected = IOException.class)
+	public void readShouldRejectTruncatedClassFile() throws Exception {
+		ClassFileHeader.read(new ByteArrayInputStream(new byte[] { (byte) 0xCA, (byte) 0xFE, (byte) 0xBA,
+				(byte) 0xBE, 0, 0, 0, 52, 0, 10, 1 }));
+	}
+
+	private static ClassFileHeader headerOf(Class<?> clazz) throws IOException {
+		String resourceName = clazz.getName().replace('.', '/') + ".class";
+		try (InputStream classFile = ClassLoader.getSystemClassLoader().getResourceAsStream(resourceName)) {
+			return ClassFileHeader.read(classFile);
+		}
+	}
+
+	enum Plain {
+		VALUE
+	}
+
+	static class Constants {
+		static final long LONG = Long.MAX_VALUE - 1;
+		static final double DOUBLE = Math.PI;
+		static final String STRING = "constant";
+
+		double compute(long value) {
+			return value * DOUBLE + LONG + STRING.length();
+		}
+	}
+}
@@ -0,0 +1,138 @@
+/*-
+ * ​​​
+ * meanbean
+ * ⁣⁣⁣
+ * Copyright (C) 2010 - 2020 the original author or authors.
+ * ⁣⁣⁣
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ﻿﻿﻿﻿﻿
+ */
+
+package org.meanbean.util;
+
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.meanbean.util.ClassPath.ResourceInfo;
+import org.meanbean.util.ClassPathIndex.JarListing;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ClassPathIndexTest {
+
+	@Rule
+	public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+	@After
+	public void tearDown() {
+		System.clearProperty(ClassPathIndex.INDEX_FILE_PROPERTY);
+	}
+
+	@Test
+	public void savedListingShouldBeReadBack() throws Exception {
+		File jar = newJar("sample.jar", "com/example/Sample.class");
+		Path indexFile = temporaryFolder.getRoot().toPath().resolve("target/classpath.idx");
+		ClassPathIndex index = ClassPathIndex.load(indexFile);
+		index.put(jar, Collections.singletonList(new File("lib/other.jar")), Arrays.asList("com/example/Sample.class"));
+		index.save();
+
+		JarListing listing = ClassPathIndex.load(indexFile).get(jar);
+
+		assertThat(listing).isNotNull();
+		assertThat(listing.getResourceNames()).containsExactly("com/example/Sample.class");
+		assertThat(listing.getClassPath()).containsExactly(new File("lib/other.jar"));
+	}
+
+	@Test
+	public void listingShouldBeIgnoredOnceJarChanges() throws Exception {
+		File jar = newJar("sample.jar", "com/example/Sample.class");
+		ClassPathIndex index = ClassPathIndex.load(temporaryFolder.getRoot().toPath().resolve("classpath.idx"));
+		index.put(jar, Collections.emptyList(), Arrays.asList("com/example/Sample.class"));
+
+		newJar("sample.jar", "com/example/Sample.class", "com/example/Added.class");
+
+		assertThat(index.get(jar)).isNull();
+	}
+
+	@Test
+	public void unreadableIndexFileShouldBeIgnored() throws Exception {
+		File jar = newJar("sample.jar", "com/example/Sample.class");
+		Path indexFile = temporaryFolder.newFile("classpath.idx").toPath();
+		Files.write(indexFile, Arrays.asList("not an index"));
+
+		assertThat(ClassPathIndex.load(indexFile).get(jar)).isNull();
+	}
+
+	@Test
+	public void scanShouldRecordJarsInIndexFileAndFindSameResources() throws Exception {
+		File jar = newJar("sample.jar", "com/example/Sample.class", "com/example/sub/Nested.class");
+		File indexFile = new File(temporaryFolder.getRoot(), "classpath.idx");
+		System.setProperty(ClassPathIndex.INDEX_FILE_PROPERTY, indexFile.getPath());
+
+		try (URLClassLoader classLoader = new URLClassLoader(new URL[] { jar.toURI().toURL() }, null)) {
+			ClassPath first = ClassPath.from(classLoader);
+			assertThat(ClassPathIndex.load(indexFile.toPath()).get(jar)).isNotNull();
+
+			ClassPath second = ClassPath.from(classLoader);
+			assertThat(second.getResources())
+					.isEqualTo(first.getResources())
+					.extracting(ResourceInfo::getResourceName)
+					.contains("com/example/Sample.class", "com/example/sub/Nested.class");
+		}
+	}
+
+	@Test
+	public void packageScanShouldFindClassesInJarWithoutDirectoryEntriesFromIndex() throws Exception {
+		File directory = temporaryFolder.newFolder("classes", "com", "example");
+		new File(directory, "FromDirectory.class").createNewFile();
+		File jar = newJar("shaded.jar", "com/example/FromJar.class");
+		File indexFile = new File(temporaryFolder.getRoot(), "classpath.idx");
+		System.setProperty(ClassPathIndex.INDEX_FILE_PROPERTY, indexFile.getPath());
+
+		URL[] urls = { new File(temporaryFolder.getRoot(), "classes").toURI().toURL(), jar.toURI().toURL() };
+		try (URLClassLoader classLoader = new URLClassLoader(urls, null)) {
+			ClassPath first = ClassPath.from(classLoader, "com.example");
+			assertThat(ClassPathIndex.load(indexFile.toPath()).get(jar)).isNotNull();
+
+			ClassPath second = ClassPath.from(classLoader, "com.example");
+			assertThat(second.getResources())
+					.isEqualTo(first.getResources())
+					.extracting(ResourceInfo::getResourceName)
+					.containsExactlyInAnyOrder("com/example/FromDirectory.class", "com/example/FromJar.class");
+		}
+	}
+
+	private File newJar(String name, String... resourceNames) throws IOException {
+		File jar = new File(temporaryFolder.getRoot(), name);
+		try (JarOutputStream out = new JarOutputStream(new FileOutputStream(jar))) {
+			for (String resourceName : resourceNames) {
+				out.putNextEntry(new JarEntry(resourceName));
+				out.closeEntry();
+			}
+		}
+		return jar;
+	}
+}
@@ -0,0 +1,213 @@
+/*-
+ * ​​​
+ * meanbean
+ * ⁣⁣⁣
+ * Copyright (C) 2010 - 2020 the original author or authors.
+ * ⁣⁣⁣
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ﻿﻿﻿﻿﻿
+ */
+
+package org.meanbean.util;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.meanbean.test.beans.domain.Company;
+import org.meanbean.util.ClassPath.ClassInfo;
+import org.meanbean.util.ClassPath.ResourceInfo;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.Set;
+import java.util.jar.Attributes;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import java.util.jar.Manifest;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ClassPathTest {
+
+	private static final String DOMAIN_PACKAGE = Company.class.getPackage().getName();
+
+	@Rule
+	public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+	@Test
+	public void packageScanShouldOnlyContainResourcesOfPackage() throws Exception {
+		ClassPath classPath = ClassPath.from(getClass().getClassLoader(), DOMAIN_PACKAGE);
+
+		assertThat(classPath.getResources())
+				.extracting(ResourceInfo::getResourceName)
+				.allMatch(resourceName -> resourceName.startsWith("org/meanbean/test/beans/domain/"));
+	}
+
+	@Test
+	public void packageScanShouldFindSameClassesAsFullScan() throws Exception {
+		ClassLoader classLoader = getClass().getClassLoader();
+
+		assertThat(classNames(ClassPath.from(classLoader, DOMAIN_PACKAGE), DOMAIN_PACKAGE))
+				.isEqualTo(classNames(ClassPath.from(classLoader), DOMAIN_PACKAGE))
+				.contains(Company.class.getName());
+	}
+
+	@Test
+	public void packageScanShouldFindClassesInJar() throws Exception {
+		ClassLoader classLoader = getClass().getClassLoader();
+
+		assertThat(classNames(ClassPath.from(classLoader, "org.junit"), "org.junit"))
+				.isEqualTo(classNames(ClassPath.from(classLoader), "org.junit"))
+				.contains(Test.class.getName());
+	}
+
+	@Test
+	public void packageScanShouldScanAllRootsWhenJarHasNoDirectoryEntries() throws Exception {
+		File jar = newJar("no-directory-entries.jar", null, "com/example/nodirs/Sample.class",
+				"com/example/other/Other.class");
+
+		try (URLClassLoader classLoader = new URLClassLoader(new URL[] { jar.toURI().toURL() }, null)) {
+			ClassPath classPath = ClassPath.from(classLoader, "com.example.nodirs");
+
+			assertThat(classPath.getResources())
+					.extracting(ResourceInfo::getResourceName)
+					.containsExactly("com/example/nodirs/Sample.class");
+		}
+	}
+
+	@Test
+	public void packageScanShouldFindClassesInJarWithoutDirectoryEntriesNextToPackageRoot() throws Exception {
+		File directory = newDirectory("classes", "com/example/mixed/FromDirectory.class");
+		File jar = newJar("shaded.jar", null, "com/example/mixed/FromJar.class", "com/example/other/Other.class");
+
+		try (URLClassLoader classLoader = new URLClassLoader(
+				new URL[] { directory.toURI().toURL(), jar.toURI().toURL() }, null)) {
+			ClassPath classPath = ClassPath.from(classLoader, "com.example.mixed");
+
+			assertThat(classPath.getResources())
+					.extracting(ResourceInfo::getResourceName)
+					.containsExactlyInAnyOrder("com/example/mixed/FromDirectory.class", "com/example/mixed/FromJar.class");
+		}
+	}
+
+	@Test
+	public void packageScanShouldFindClassesInJarWithoutDirectoryEntriesOnManifestClassPath() throws Exception {
+		File directory = newDirectory("classes", "com/example/mixed/FromDirectory.class");
+		newJar("shaded.jar", null, "com/example/mixed/FromJar.class");
+		Manifest manifest = new Manifest();
+		manifest.getMainAttributes().put(Attributes.Name.MANIFEST_VERSION, "1.0");
+		manifest.getMainAttributes().put(Attributes.Name.CLASS_PATH, "shaded.jar");
+		File booter = newJar("booter.jar", manifest, "com/example/Booter.class");
+
+		try (URLClassLoader classLoader = new URLClassLoader(
+				new URL[] { directory.toURI().toURL(), booter.toURI().toURL() }, null)) {
+			ClassPath classPath = ClassPath.from(classLoader, "com.example.mixed");
+
+			assertThat(classPath.getResources())
+					.extracting(ResourceInfo::getResourceName)
+					.containsExactlyInAnyOrder("com/example/mixed/FromDirectory.class", "com/example/mixed/FromJar.class");
+		}
+	}
+
+	@Test
+	public void parallelPackageScanShouldFindClassesInJarsWithoutDirectoryEntries() throws Exception {
+		File directory = newDirectory("classes", "com/example/mixed/FromDirectory.class");
+		File first = newJar("first.jar", null, "com/example/mixed/First.class");
+		newJar("second.jar", null, "com/example/mixed/Second.class");
+		newJar("unrelated.jar", null, "com/example/other/Other.class");
+		Manifest manifest = new Manifest();
+		manifest.getMainAttributes().put(Attributes.Name.MANIFEST_VERSION, "1.0");
+		manifest.getMainAttributes().put(Attributes.Name.CLASS_PATH, "second.jar unrelated.jar");
+		File booter = newJar("booter.jar", manifest, "com/example/Booter.class");
+
+		URL[] urls = { directory.toURI().toURL(), first.toURI().toURL(), booter.toURI().toURL() };
+		try (URLClassLoader classLoader = new URLClassLoader(urls, null)) {
+			assertThat(ClassPath.from(classLoader, "com.example.mixed", 4).getResources())
+					.containsExactlyElementsOf(ClassPath.from(classLoader, "com.example.mixed").getResources())
+					.extracting(ResourceInfo::getResourceName)
+					.containsExactlyInAnyOrder("com/example/mixed/FromDirectory.class", "com/example/mixed/First.class",
+							"com/example/mixed/Second.class");
+		}
+	}
+
+	@Test
+	public void parallelScanShouldFindSameResourcesInSameOrderAsSerialScan() throws Exception {
+		ClassLoader classLoader = getClass().getClassLoader();
+
+		assertThat(ClassPath.from(classLoader, 4).getResources())
+				.containsExactlyElementsOf(ClassPath.from(classLoader).getResources());
+	}
+
+	@Test
+	public void parallelScanShouldFollowManifestClassPathInOrder() throws Exception {
+		File first = newJar("first.jar", null, "com/example/First.class");
+		File second = newJar("second.jar", null, "com/example/Second.class");
+		Manifest manifest = new Manifest();
+		manifest.getMainAttributes().put(Attributes.Name.MANIFEST_VERSION, "1.0");
+		manifest.getMainAttributes().put(Attributes.Name.CLASS_PATH, "first.jar second.jar");
+		File booter = newJar("booter.jar", manifest, "com/example/Booter.class");
+
+		try (URLClassLoader classLoader = new URLClassLoader(new URL[] { booter.toURI().toURL() }, null)) {
+			assertThat(ClassPath.from(classLoader, 4).getResources())
+					.extracting(ResourceInfo::getResourceName)
+					.containsExactly("com/example/First.class", "com/example/Second.class", "com/example/Booter.class");
+		}
+	}
+
+	@Test
+	public void parallelPackageScanShouldFindSameClassesAsSerialScan() throws Exception {
+		ClassLoader classLoader = getClass().getClassLoader();
+
+		assertThat(ClassPath.from(classLoader, "org.junit", 4).getResources())
+				.containsExactlyElementsOf(ClassPath.from(classLoader, "org.junit").getResources());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void scanShouldPreventNonPositiveParallelism() throws Exception {
+		ClassPath.from(getClass().getClassLoader(), 0);
+	}
+
+	private File newJar(String name, Manifest manifest, String... resourceNames) throws IOException {
+		File jar = new File(temporaryFolder.getRoot(), name);
+		try (JarOutputStream out = manifest == null
+				? new JarOutputStream(new FileOutputStream(jar))
+				: new JarOutputStream(new FileOutputStream(jar), manifest)) {
+			for (String resourceName : resourceNames) {
+				out.putNextEntry(new JarEntry(resourceName));
+				out.closeEntry();
+			}
+		}
+		return jar;
+	}
+
+	private File newDirectory(String name, String... resourceNames) throws IOException {
+		File directory = temporaryFolder.newFolder(name);
+		for (String resourceName : resourceNames) {
+			File resource = new File(directory, resourceName);
+			resource.getParentFile().mkdirs();
+			resource.createNewFile();
+		}
+		return directory;
+	}
+
+	private static Set<String> classNames(ClassPath classPath, String packageName) {
+		return classPath.getTopLevelClassesRecursive(packageName)
+				.stream()
+				.map(ClassInfo::getName)
+				.collect(Collectors.toSet());
+	}
+}
@@ -0,0 +1,51 @@
+/*-
+ * ​​​
+ * meanbean
+ * ⁣⁣⁣
+ * Copyright (C) 2010 - 2020 the original author or authors.
+ * ⁣⁣⁣
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ﻿﻿﻿﻿﻿
+ */
+
+package org.meanbean.util;
+
+import org.junit.Test;
+import org.meanbean.test.beans.domain.Company;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ClassPathUtilsTest {
+
+	private static final String DOMAIN_PACKAGE = Company.class.getPackage().getName();
+
+	@Test
+	public void findClassesInShouldFindConcreteClassesOfPackage() throws Exception {
+		Class<?>[] classes = ClassPathUtils.findClassesIn(DOMAIN_PACKAGE);
+
+		assertThat(classes)
+				.contains(Company.class)
+				.allMatch(clazz -> clazz.getName().startsWith(DOMAIN_PACKAGE + "."))
+				.noneMatch(Class::isInterface);
+	}
+
+	@Test
+	public void findClassesInShouldReturnSameClassesInNewArrayOnRepeatedCalls() throws Exception {
+		Class<?>[] classes1 = ClassPathUtils.findClassesIn(DOMAIN_PACKAGE);
+		Class<?>[] classes2 = ClassPathUtils.findClassesIn(DOMAIN_PACKAGE);
+
+		assertThat(classes2)
+				.isNotSameAs(classes1)
+				.containsExactly(classes1);
+	}
+}
@@ -0,0 +1,136 @@
+/*-
+ * ​​​
+ * meanbean
+ * ⁣⁣⁣
+ * Copyright (C) 2010 - 2020 the original author or authors.
+ * ⁣⁣⁣
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ﻿﻿﻿﻿﻿
+ */
+
+package org.meanbean.util;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.allOf;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.Matchers.not;
+
+import java.util.Arrays;
+
+import org.junit.After;
+import org.junit.Test;
+
+public class SeededRandomValueGeneratorTest {
+
+    private static final long SEED = 42L;
+
+    @After
+    public void after() {
+        System.clearProperty(SeededRandomValueGenerator.SEED_PROPERTY);
+    }
+
+    @Test
+    public void shouldGenerateSameValuesFromSameSeed() {
+        // Given
+        RandomValueGenerator first = new SeededRandomValueGenerator(SEED);
+        RandomValueGenerator second = new SeededRandomValueGenerator(SEED);
+        // Then
+        for (int idx = 0; idx < 100; idx++) {
+            assertThat("should generate same longs.", first.nextLong(), is(second.nextLong()));
+            assertThat("should generate same bytes.", first.nextBytes(idx), is(second.nextBytes(idx)));
+            assertThat("should generate same doubles.", first.nextDouble(), is(second.nextDouble()));
+        }
+    }
+
+    @Test
+    public void shouldTakeSeedFromSystemProperty() {
+        // Given
+        System.setProperty(SeededRandomValueGenerator.SEED_PROPERTY, " 1234 ");
+        // When
+        SeededRandomValueGenerator generator = new SeededRandomValueGenerator();
+        // Then
+        assertThat("should use seed of system property.", generator.getSeed(), is(1234L));
+        assertThat("should generate values of seed.", generator.nextLong(),
+                is(new SeededRandomValueGenerator(1234L).nextLong()));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldPreventInvalidSeedInSystemProperty() {
+        System.setProperty(SeededRandomValueGenerator.SEED_PROPERTY, "not-a-seed");
+        new SeededRandomValueGenerator();
+    }
+
+    @Test
+    public void splitShouldGenerateIndependentReproducibleStreams() {
+        // Given
+        SeededRandomValueGenerator generator = new SeededRandomValueGenerator(SEED);
+        SeededRandomValueGenerator sameGenerator = new SeededRandomValueGenerator(SEED);
+        // When
+        SeededRandomValueGenerator worker = generator.split();
+        SeededRandomValueGenerator sameWorker = sameGenerator.split();
+        // Then
+        assertThat("should report seed.", worker.getSeed(), is(SEED));
+        long[] workerValues = nextLongs(worker);
+        assertThat("should reproduce split stream.", workerValues, is(nextLongs(sameWorker)));
+        assertThat("should be independent of parent stream.", workerValues, is(not(nextLongs(generator))));
+    }
+
+    @Test
+    public void resetShouldGenerateValuesOfBeanClassRegardlessOfPriorValues() {
+        // Given
+        SeededRandomValueGenerator generator = new SeededRandomValueGenerator(SEED);
+        SeededRandomValueGenerator usedGenerator = new SeededRandomValueGenerator(SEED);
+        nextLongs(usedGenerator);
+        // When
+        generator.reset(String.class);
+        usedGenerator.reset(String.class);
+        // Then
+        long[] stringValues = nextLongs(generator);
+        assertThat("should reproduce bean class stream.", stringValues, is(nextLongs(usedGenerator)));
+        generator.reset(Integer.class);
+        assertThat("should generate other values for other bean class.", nextLongs(generator),
+                is(not(stringValues)));
+    }
+
+    @Test
+    public void nextFloatShouldBeBetweenZeroAndOne() {
+        RandomValueGenerator generator = new SeededRandomValueGenerator(SEED);
+        for (int idx = 0; idx < 10000; idx++) {
+            assertThat(generator.nextFloat(), is(allOf(greaterThanOrEqualTo(0f), lessThan(1f))));
+        }
+    }
+
+    @Test
+    public void nextBytesShouldFillArrayOfRequestedSize() {
+        // When
+        byte[] generatedBytes = new SeededRandomValueGenerator(SEED).nextBytes(13);
+        // Then
+        assertThat("should generate requested size array.", generatedBytes.length, is(13));
+        assertThat("should fill trailing bytes.", Arrays.copyOfRange(generatedBytes, 8, 13), is(not(new byte[5])));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void nextBytesShouldPreventNegativeSize() {
+        new SeededRandomValueGenerator(SEED).nextBytes(-1);
+    }
+
+    private static long[] nextLongs(RandomValueGenerator generator) {
+        long[] values = new long[10];
+        for (int idx = 0; idx < values.length; idx++) {
+            values[idx] = generator.nextLong();
+        }
+        return values;
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright (C) 2017 The Gson authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.meanbean.util.reflect;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.reflect.Constructor;
+
+import org.junit.Test;
+
+public class UnsafeReflectionAccessorTest {
+
+  @Test
+  @SuppressWarnings("deprecation")
+  public void makeAccessibleShouldOpenPrivateConstructor() throws Exception {
+    Constructor<ClassWithPrivateConstructor> constructor = ClassWithPrivateConstructor.class.getDeclaredConstructor();
+
+    new UnsafeReflectionAccessor().makeAccessible(constructor);
+
+    assertThat(constructor.isAccessible()).isTrue();
+    assertThat(constructor.newInstance()).isNotNull();
+  }
+
+  @Test
+  @SuppressWarnings("deprecation")
+  public void makeAccessibleShouldAcceptAlreadyAccessibleObject() throws Exception {
+    Constructor<ClassWithPrivateConstructor> constructor = ClassWithPrivateConstructor.class.getDeclaredConstructor();
+    constructor.setAccessible(true);
+
+    new UnsafeReflectionAccessor().makeAccessible(constructor);
+
+    assertThat(constructor.isAccessible()).isTrue();
+  }
+
+  static final class ClassWithPrivateConstructor {
+    private ClassWithPrivateConstructor() {
+    }
+  }
+}